@@ -3,6 +3,8 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -24,10 +26,9 @@ import seedu.address.model.ReadOnlyVolunteerStorage;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.VolunteerStorage;
 import seedu.address.model.util.SampleDataUtil;
-import seedu.address.storage.JsonEventStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
-import seedu.address.storage.JsonVolunteerStorage;
 import seedu.address.storage.Storage;
+import seedu.address.storage.StorageFormatConverter;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
@@ -47,6 +48,7 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected CompletableFuture<Logic> logicLoading;
 
     @Override
     public void init() throws Exception {
@@ -57,59 +59,113 @@ public class MainApp extends Application {
         initLogging(config);
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        seedu.address.storage.VolunteerStorage volunteerStorage = new JsonVolunteerStorage(
-                                                                userPrefs.getVolunteerStorageFilePath());
-        seedu.address.storage.EventStorage eventStorage = new JsonEventStorage(userPrefs.getEventStorageFilePath());
+        convertDataFiles(userPrefs);
+        seedu.address.storage.VolunteerStorage volunteerStorage = StorageFormatConverter.createVolunteerStorage(
+                userPrefs.getVolunteerStorageFilePath(), userPrefs.getStorageFormat());
+        seedu.address.storage.EventStorage eventStorage = StorageFormatConverter.createEventStorage(
+                userPrefs.getEventStorageFilePath(), userPrefs.getStorageFormat());
 
-        storage = new StorageManager(eventStorage, volunteerStorage, userPrefsStorage);
+        storage = new StorageManager(eventStorage, volunteerStorage, userPrefsStorage, true);
 
-        model = initModelManager(storage, userPrefs);
+        // the data is loaded in the background, so that the main window can be shown while it loads
+        logicLoading = initModelManager(storage, userPrefs).thenApply(initializedModel -> {
+            model = initializedModel;
+            logic = new LogicManager(model, storage);
+            return logic;
+        });
 
-        logic = new LogicManager(model, storage);
+        ui = new UiManager(logicLoading, userPrefs.getGuiSettings());
+    }
 
-        ui = new UiManager(logic);
+    /**
+     * Converts the data files at the locations in {@code userPrefs} to the storage format in {@code userPrefs}, if
+     * they were saved in another format, so that changing the format in the preferences keeps the existing data.
+     * A file that cannot be converted is left as it is.
+     */
+    private void convertDataFiles(ReadOnlyUserPrefs userPrefs) {
+        try {
+            StorageFormatConverter.convertEventStorageFile(userPrefs.getEventStorageFilePath(),
+                    userPrefs.getStorageFormat());
+            StorageFormatConverter.convertVolunteerStorageFile(userPrefs.getVolunteerStorageFilePath(),
+                    userPrefs.getStorageFormat());
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Failed to convert data files to " + userPrefs.getStorageFormat() + " format : "
+                    + StringUtil.getDetails(e));
+        }
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s eventStorage and volunteerStorage and
-     * {@code userPrefs}. <br> The data from the sample event storage and volunteer storage will be used instead if
-     * {@code storage}'s event storage and volunteer storage is not found, or an empty event storage and volunteer
-     * storage will be used instead if errors occur when reading {@code storage}'s event storage and volunteer storage.
+     * Returns a future of a {@code ModelManager} with the data from {@code storage}'s eventStorage and volunteerStorage
+     * and {@code userPrefs}. The event and volunteer data are read at the same time, each on a thread of its own.
+     * <br> The data from the sample event storage and volunteer storage will be used instead if {@code storage}'s
+     * event storage and volunteer storage is not found, or an empty event storage and volunteer storage will be used
+     * instead if errors occur when reading {@code storage}'s event storage or volunteer storage.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private CompletableFuture<ModelManager> initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getVolunteerStorageFilePath());
         logger.info("Using data file : " + storage.getEventStorageFilePath());
 
-        Optional<ReadOnlyEventStorage> eventStorageOptional;
-        ReadOnlyEventStorage initialEventData;
-        Optional<ReadOnlyVolunteerStorage> volunteerStorageOptional;
-        ReadOnlyVolunteerStorage initialVolunteerData;
-        try {
-            eventStorageOptional = storage.readEventStorage();
+        CompletableFuture<ReadOnlyEventStorage> eventLoading = loadInBackground("event-loader", () -> {
+            Optional<ReadOnlyEventStorage> eventStorageOptional = storage.readEventStorage();
             if (!eventStorageOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getEventStorageFilePath()
                         + " populated with a sample EventStorage.");
             }
-            initialEventData = eventStorageOptional.orElseGet(SampleDataUtil::getSampleEventStorage);
-
-            volunteerStorageOptional = storage.readVolunteerStorage();
+            return eventStorageOptional.orElseGet(SampleDataUtil::getSampleEventStorage);
+        });
+        CompletableFuture<ReadOnlyVolunteerStorage> volunteerLoading = loadInBackground("volunteer-loader", () -> {
+            Optional<ReadOnlyVolunteerStorage> volunteerStorageOptional = storage.readVolunteerStorage();
             if (!volunteerStorageOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getVolunteerStorageFilePath()
                         + " populated with a sample VolunteerStorage.");
             }
-            initialVolunteerData = volunteerStorageOptional.orElseGet(SampleDataUtil::getSampleVolunteerStorage);
+            return volunteerStorageOptional.orElseGet(SampleDataUtil::getSampleVolunteerStorage);
+        });
 
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getVolunteerStorageFilePath() + " could not be loaded."
-                    + " Will be starting with an empty VolunteerStorage.");
-            initialVolunteerData = new VolunteerStorage();
+        return eventLoading.thenCombine(volunteerLoading, (initialEventData, initialVolunteerData) ->
+                new ModelManager(initialEventData, initialVolunteerData, userPrefs))
+                .exceptionally(e -> initEmptyModelManager(storage, userPrefs, e.getCause()));
+    }
 
-            logger.warning("Data file at " + storage.getEventStorageFilePath() + " could not be loaded."
-                    + " Will be starting with an empty EventStorage.");
-            initialEventData = new EventStorage();
+    /**
+     * Returns a {@code ModelManager} with an empty event storage and volunteer storage, after the data from
+     * {@code storage} could not be loaded because of {@code cause}.
+     * Events and volunteers refer to each other, so neither is kept if the other could not be loaded.
+     */
+    private ModelManager initEmptyModelManager(Storage storage, ReadOnlyUserPrefs userPrefs, Throwable cause) {
+        if (!(cause instanceof DataLoadingException)) {
+            throw new CompletionException(cause);
         }
+        logger.warning("Data file at " + storage.getVolunteerStorageFilePath() + " could not be loaded."
+                + " Will be starting with an empty VolunteerStorage.");
+        logger.warning("Data file at " + storage.getEventStorageFilePath() + " could not be loaded."
+                + " Will be starting with an empty EventStorage.");
+        return new ModelManager(new EventStorage(), new VolunteerStorage(), userPrefs);
+    }
 
-        return new ModelManager(initialEventData, initialVolunteerData, userPrefs);
+    /**
+     * Returns a future of the data read by {@code loader}, which is run on a new thread named {@code threadName}.
+     */
+    private static <T> CompletableFuture<T> loadInBackground(String threadName, DataLoader<T> loader) {
+        CompletableFuture<T> loading = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                loading.complete(loader.load());
+            } catch (Throwable e) {
+                loading.completeExceptionally(e);
+            }
+        }, threadName);
+        thread.setDaemon(true);
+        thread.start();
+        return loading;
+    }
+
+    /**
+     * Represents a function that reads data from the storage.
+     */
+    @FunctionalInterface
+    private interface DataLoader<T> {
+        T load() throws DataLoadingException;
     }
 
     private void initLogging(Config config) {
@@ -196,6 +252,18 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping iVolunteer ] =============================");
+        try {
+            // the data may still be loading if the window was closed right after it was shown
+            logicLoading.join();
+        } catch (CompletionException e) {
+            logger.severe("Data was not loaded, so there is nothing to save " + StringUtil.getDetails(e));
+            return;
+        }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats that the event and volunteer data files can be stored in.
+ */
+public enum StorageFormat {
+    /** Human-readable json files, each saved as a snapshot together with a journal of the changes made since. */
+    JSON,
+    /** Compact binary files, where repeated names are stored once in a string table. */
+    BINARY
+}
@@ -0,0 +1,124 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * A pool of canonical instances of an immutable value class, looked up by a key that the value holds on to, such as
+ * the string a value was constructed from. Values that are equal are shared rather than duplicated, so that the same
+ * value repeated across many objects only takes up memory once.
+ *
+ * The pool only holds weak references to its values, so a value is dropped from the pool once nothing else refers
+ * to it. The pool is safe to use from several threads at once.
+ *
+ * @param <K> the type of the keys that values are looked up by.
+ * @param <V> the type of the values in the pool.
+ */
+public class InternPool<K, V> {
+
+    // keyed by the keys that the values hold on to, so the pool does not keep any other copies of the keys alive
+    private final ConcurrentMap<K, ValueReference<K, V>> pool = new ConcurrentHashMap<>();
+    // the references of values that have been dropped, whose entries are removed on the next use of the pool
+    private final ReferenceQueue<V> droppedValues = new ReferenceQueue<>();
+    private final Function<K, V> factory;
+    private final Function<V, K> keyOfValue;
+
+    /**
+     * Creates an {@code InternPool} that creates values from their keys with {@code factory}.
+     *
+     * @param keyOfValue Returns the key of a value, which should be held by the value so that the pool does not keep
+     *                   another copy of the key alive.
+     */
+    public InternPool(Function<K, V> factory, Function<V, K> keyOfValue) {
+        requireNonNull(factory);
+        requireNonNull(keyOfValue);
+        this.factory = factory;
+        this.keyOfValue = keyOfValue;
+    }
+
+    /**
+     * Returns an {@code InternPool} of strings, where each string is its own key.
+     */
+    public static InternPool<String, String> ofStrings() {
+        return new InternPool<>(Function.identity(), Function.identity());
+    }
+
+    /**
+     * Returns the canonical value of {@code key}, which is created and added to the pool if there is none yet.
+     * Values are only created for keys that are not in the pool, so any exception thrown by the factory for an invalid
+     * key is thrown here.
+     *
+     * Lookups of values already in the pool do not lock, so the pool can be used by many threads at once. Threads that
+     * look up the same new key at the same time may each create a value, but all of them return the one value that is
+     * added to the pool first.
+     */
+    public V intern(K key) {
+        requireNonNull(key);
+        removeDroppedValues();
+        V value = valueOf(pool.get(key));
+        if (value != null) {
+            return value;
+        }
+
+        V created = factory.apply(key);
+        K createdKey = keyOfValue.apply(created);
+        ValueReference<K, V> createdReference = new ValueReference<>(createdKey, created, droppedValues);
+        while (true) {
+            ValueReference<K, V> existing = pool.putIfAbsent(createdKey, createdReference);
+            if (existing == null) {
+                return created;
+            }
+            V existingValue = existing.get();
+            if (existingValue != null) {
+                return existingValue;
+            }
+            // the existing value has been dropped, but its entry has not been removed yet
+            if (pool.replace(createdKey, existing, createdReference)) {
+                return created;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of values in the pool, including values that are no longer referenced but not dropped yet.
+     */
+    public int size() {
+        removeDroppedValues();
+        return pool.size();
+    }
+
+    private static <V> V valueOf(WeakReference<V> reference) {
+        return reference == null ? null : reference.get();
+    }
+
+    /**
+     * Removes the entries of the values that have been dropped since the pool was last used.
+     */
+    private void removeDroppedValues() {
+        Reference<? extends V> dropped;
+        while ((dropped = droppedValues.poll()) != null) {
+            ValueReference<?, ?> reference = (ValueReference<?, ?>) dropped;
+            // only removes the entry if it has not been replaced by a newer value of the same key
+            pool.remove(reference.key, reference);
+        }
+    }
+
+    /**
+     * A weak reference to a value in the pool, which remembers the key of its entry so that the entry can be removed
+     * once the value is dropped.
+     */
+    private static class ValueReference<K, V> extends WeakReference<V> {
+        private final K key;
+
+        ValueReference(K key, V value, ReferenceQueue<? super V> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+}
@@ -2,19 +2,32 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +35,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -39,8 +53,12 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // writes the records of a stream without flushing the underlying file after each of them
+    private static final ObjectWriter valueWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        FileUtil.writeToFileAtomically(jsonFile, toJsonString(objectToSerialize));
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -77,9 +95,37 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Returns the object read from the given file by {@code reader}, or {@code Optional.empty()} if the file is not
+     * found. Unlike {@link #readJsonFile(Path, Class)}, the file is parsed as a stream, so {@code reader} can convert
+     * the file one record at a time instead of holding the whole file, and all of its records, in memory.
+     *
+     * @param filePath cannot be null.
+     * @throws DataLoadingException if the file could not be read, or is not a valid JSON file.
+     * @throws IllegalValueException if {@code reader} found any data constraints violated.
+     */
+    public static <T> Optional<T> readJsonFile(Path filePath, JsonStreamReader<T> reader)
+            throws DataLoadingException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(reader);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return Optional.of(readJson(in, reader));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * The file is replaced atomically, so it is never left partially written.
      * @param jsonFile cannot be null
      * @param filePath cannot be null
      * @throws IOException if there was an error during writing to the file
@@ -92,6 +138,123 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Saves the JSON data written by {@code writer} to the specified file, as a stream of records.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * The file is replaced atomically, so it is never left partially written.
+     *
+     * @param filePath cannot be null.
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public static void saveJsonFile(Path filePath, JsonStreamWriter writer) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(writer);
+
+        FileUtil.writeToFileAtomically(filePath, out -> writeJson(out, writer));
+    }
+
+    /**
+     * Returns the object read by {@code reader} from the JSON data in {@code in}, which is not closed.
+     */
+    public static <T> T readJson(InputStream in, JsonStreamReader<T> reader) throws IOException,
+            IllegalValueException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            parser.nextToken();
+            return reader.read(parser);
+        }
+    }
+
+    /**
+     * Writes the JSON data written by {@code writer} to {@code out}, indented like {@link #toJsonString(Object)}.
+     * {@code out} is flushed, but not closed.
+     */
+    public static void writeJson(OutputStream out, JsonStreamWriter writer) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setPrettyPrinter(new DefaultPrettyPrinter());
+            writer.write(generator);
+        }
+    }
+
+    /**
+     * Reads a JSON array of objects of {@code elementClass}, one element at a time, passing each to
+     * {@code handler}. {@code parser} must be at the start of the array, and is left at its end.
+     *
+     * @throws IOException if the array is not valid JSON, or an element does not match {@code elementClass}.
+     */
+    public static <T> void readJsonArray(JsonParser parser, Class<T> elementClass,
+                                         JsonElementHandler<T> handler) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array");
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            handler.handle(parser.readValueAs(elementClass));
+        }
+    }
+
+    /**
+     * Reads a JSON array of objects of {@code elementClass} in batches of up to {@code batchSize} elements, passing
+     * each batch to {@code handler} in order. {@code parser} must be at the start of the array, and is left at its end.
+     *
+     * @throws IOException if the array is not valid JSON, or an element does not match {@code elementClass}.
+     */
+    public static <T> void readJsonArray(JsonParser parser, Class<T> elementClass, int batchSize,
+                                         JsonElementHandler<List<T>> handler)
+            throws IOException, IllegalValueException {
+        List<T> batch = new ArrayList<>();
+        readJsonArray(parser, elementClass, element -> {
+            batch.add(element);
+            if (batch.size() == batchSize) {
+                handler.handle(new ArrayList<>(batch));
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            handler.handle(batch);
+        }
+    }
+
+    /**
+     * Writes {@code elements} as a JSON array, converting each element into its Jackson-friendly version with
+     * {@code toJsonAdapted} only when it is written.
+     */
+    public static <T> void writeJsonArray(JsonGenerator generator, Iterable<T> elements,
+                                          Function<? super T, ?> toJsonAdapted) throws IOException {
+        generator.writeStartArray();
+        for (T element : elements) {
+            valueWriter.writeValue(generator, toJsonAdapted.apply(element));
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Reads an object from a stream of JSON tokens.
+     */
+    @FunctionalInterface
+    public interface JsonStreamReader<T> {
+        /**
+         * Returns the object read from {@code parser}, which is at the first token of the JSON data.
+         */
+        T read(JsonParser parser) throws IOException, IllegalValueException;
+    }
+
+    /**
+     * Writes an object as a stream of JSON tokens.
+     */
+    @FunctionalInterface
+    public interface JsonStreamWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * Handles an element of a JSON array as soon as it is read.
+     */
+    @FunctionalInterface
+    public interface JsonElementHandler<T> {
+        void handle(T element) throws IllegalValueException;
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +274,14 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line, without the
+     * indentation added by {@link #toJsonString(Object)}.
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
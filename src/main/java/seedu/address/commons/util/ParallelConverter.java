@@ -0,0 +1,129 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts a list of elements with a conversion that may fail, splitting the list across the common fork-join pool
+ * so that long lists are converted on every core. Lists of up to {@link #SEQUENTIAL_THRESHOLD} elements are converted
+ * on the calling thread, as handing them to the pool costs more than it saves.
+ *
+ * The results are returned in the order of the elements, and failures are reported in the same order, so the outcome
+ * of a conversion does not depend on how the work was scheduled.
+ */
+public class ParallelConverter {
+
+    public static final int SEQUENTIAL_THRESHOLD = 256;
+
+    /**
+     * Represents a conversion of a single element, which fails if the element violates any data constraints.
+     * The conversion must be safe to run on several elements at once.
+     */
+    @FunctionalInterface
+    public interface Conversion<T, R> {
+        R convert(T element) throws IllegalValueException;
+    }
+
+    /**
+     * Returns the results of converting each of {@code elements} with {@code conversion}, in the same order.
+     *
+     * @throws IllegalValueException the failure of the first element, in list order, that could not be converted.
+     *     The failures of any later elements that were converted at the same time are attached to it as suppressed
+     *     exceptions, in list order.
+     */
+    public static <T, R> List<R> convertAll(List<? extends T> elements, Conversion<? super T, ? extends R> conversion)
+            throws IllegalValueException {
+        requireAllNonNull(elements, conversion);
+        ConversionTask<T, R> task = new ConversionTask<>(elements, conversion, 0, elements.size());
+        if (elements.size() <= SEQUENTIAL_THRESHOLD) {
+            task.compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+        return task.getResults();
+    }
+
+    /**
+     * Converts the elements in a range of the list, splitting the range in half until it is small enough to be
+     * converted sequentially. Every subtask writes to its own slots of the shared arrays, and the arrays are only read
+     * after all subtasks have completed.
+     */
+    private static class ConversionTask<T, R> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<? extends T> elements;
+        private final Conversion<? super T, ? extends R> conversion;
+        private final Object[] results;
+        private final IllegalValueException[] failures;
+        private final int from;
+        private final int to;
+
+        ConversionTask(List<? extends T> elements, Conversion<? super T, ? extends R> conversion, int from, int to) {
+            this(elements, conversion, new Object[elements.size()], new IllegalValueException[elements.size()], from,
+                    to);
+        }
+
+        private ConversionTask(List<? extends T> elements, Conversion<? super T, ? extends R> conversion,
+                               Object[] results, IllegalValueException[] failures, int from, int to) {
+            this.elements = elements;
+            this.conversion = conversion;
+            this.results = results;
+            this.failures = failures;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                convertRange();
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ConversionTask<>(elements, conversion, results, failures, from, mid),
+                    new ConversionTask<>(elements, conversion, results, failures, mid, to));
+        }
+
+        /**
+         * Converts the elements of the range in order, stopping at the first one that fails, since its failure
+         * already decides the outcome of the range.
+         */
+        private void convertRange() {
+            for (int i = from; i < to; i++) {
+                try {
+                    results[i] = conversion.convert(elements.get(i));
+                } catch (IllegalValueException ive) {
+                    failures[i] = ive;
+                    return;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        List<R> getResults() throws IllegalValueException {
+            IllegalValueException firstFailure = null;
+            for (IllegalValueException failure : failures) {
+                if (failure == null) {
+                    continue;
+                }
+                if (firstFailure == null) {
+                    firstFailure = failure;
+                } else {
+                    firstFailure.addSuppressed(failure);
+                }
+            }
+            if (firstFailure != null) {
+                throw firstFailure;
+            }
+            return new ArrayList<>((List<R>) Arrays.asList(results));
+        }
+    }
+}
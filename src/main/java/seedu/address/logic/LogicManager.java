@@ -35,6 +35,10 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final IVolunteerParser iVolunteerParser;
 
+    // modification counts of the storages when they were last saved, or -1 if they have not been saved yet
+    private long savedVolunteerStorageModificationCount = -1;
+    private long savedEventStorageModificationCount = -1;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -53,8 +57,8 @@ public class LogicManager implements Logic {
         commandResult = command.execute(model);
 
         try {
-            storage.saveVolunteerStorage(model.getVolunteerStorage());
-            storage.saveEventStorage(model.getEventStorage());
+            saveChangedStorages();
+            storage.checkBackgroundSaveError();
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
@@ -64,6 +68,26 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Saves the volunteer storage and the event storage, skipping each one that has not changed since it was last
+     * saved.
+     */
+    private void saveChangedStorages() throws IOException {
+        ReadOnlyVolunteerStorage volunteerStorage = model.getVolunteerStorage();
+        long volunteerStorageModificationCount = volunteerStorage.getModificationCount();
+        if (volunteerStorageModificationCount != savedVolunteerStorageModificationCount) {
+            storage.saveVolunteerStorage(volunteerStorage);
+            savedVolunteerStorageModificationCount = volunteerStorageModificationCount;
+        }
+
+        ReadOnlyEventStorage eventStorage = model.getEventStorage();
+        long eventStorageModificationCount = eventStorage.getModificationCount();
+        if (eventStorageModificationCount != savedEventStorageModificationCount) {
+            storage.saveEventStorage(eventStorage);
+            savedEventStorageModificationCount = eventStorageModificationCount;
+        }
+    }
+
     @Override
     public ReadOnlyEventStorage getEventStorage() {
         return model.getEventStorage();
@@ -47,11 +47,9 @@ public class EventDeleteCommand extends Command {
         model.deleteEvent(eventToDelete);
 
         // cascading effect: deleting a volunteer should also remove them from the events they're in
-        for (Volunteer volunteer : model.getVolunteerStorage().getVolunteerList()) {
-            if (volunteer.hasEvent(eventToDelete)) {
-                Volunteer newVolunteer = volunteer.removeEvent(eventToDelete);
-                model.setVolunteer(volunteer, newVolunteer);
-            }
+        for (Volunteer volunteer : model.getVolunteersAssignedTo(eventToDelete)) {
+            Volunteer newVolunteer = volunteer.removeEvent(eventToDelete);
+            model.setVolunteer(volunteer, newVolunteer);
         }
 
         model.commitToBothVersionedStorages(model.getEventStorage(), model.getVolunteerStorage());
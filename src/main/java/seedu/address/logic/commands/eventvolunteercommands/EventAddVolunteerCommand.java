@@ -5,7 +5,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_ID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_VOLUNTEER_ID;
 
 import java.util.List;
-import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
@@ -15,7 +14,6 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
-import seedu.address.model.event.EventName;
 import seedu.address.model.volunteer.Volunteer;
 
 /**
@@ -74,12 +72,8 @@ public class EventAddVolunteerCommand extends Command {
                     eventToAssign.getMaxVolunteerSize().maxVolunteerSize));
         }
 
-        Set<EventName> assignedEvents = volunteerToAssign.getAssignedEvents();
-        for (EventName eventName : assignedEvents) {
-            Event otherEvent = model.getEventStorage().getEvent(eventName);
-            if (hasClashingEvents(eventToAssign, otherEvent)) {
-                throw new CommandException(MESSAGE_CLASHING_EVENTS);
-            }
+        if (!model.getClashingAssignedEvents(volunteerToAssign, eventToAssign).isEmpty()) {
+            throw new CommandException(MESSAGE_CLASHING_EVENTS);
         }
         Volunteer updatedVolunteer = volunteerToAssign.addEvent(eventToAssign);
         Event updatedEvent = eventToAssign.addVolunteer(volunteerToAssign);
@@ -91,25 +85,6 @@ public class EventAddVolunteerCommand extends Command {
                 updatedEvent.getAssignedVolunteers().size()));
     }
 
-    /**
-     * Checks if {@code eventToAssign} clashes with {@code otherEvent}
-     * @param eventToAssign The Event to be assigned.
-     * @param otherEvent The Event to be checked.
-     * @return true if the two events clash.
-     */
-    public boolean hasClashingEvents(Event eventToAssign, Event otherEvent) {
-        boolean startDateTimeClashes = !eventToAssign.getStartDate().dateAndTime
-                .isBefore(otherEvent.getStartDate().dateAndTime)
-                && eventToAssign.getStartDate().dateAndTime.isBefore(otherEvent.getEndDate().dateAndTime);
-        boolean endDateTimeClashes = eventToAssign.getEndDate().dateAndTime
-                .isAfter(otherEvent.getStartDate().dateAndTime)
-                && !eventToAssign.getEndDate().dateAndTime.isAfter(otherEvent.getEndDate().dateAndTime);
-        boolean startsEarlierAndEndsLater = eventToAssign.getStartDate().dateAndTime
-                .isBefore(otherEvent.getStartDate().dateAndTime)
-                && eventToAssign.getEndDate().dateAndTime.isAfter(otherEvent.getEndDate().dateAndTime);
-        return startDateTimeClashes || endDateTimeClashes || startsEarlierAndEndsLater;
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -3,6 +3,7 @@ package seedu.address.logic.commands.eventvolunteercommands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.core.index.Index;
@@ -13,6 +14,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
+import seedu.address.model.volunteer.Name;
 import seedu.address.model.volunteer.Volunteer;
 
 /**
@@ -46,8 +48,8 @@ public class EventListVolunteerCommand extends Command {
         }
 
         Event event = lastShownEventList.get(eventIndex.getZeroBased());
-        Predicate<Volunteer> predicateShowVolunteers = v
-                -> event.getAssignedVolunteers().stream().anyMatch(y -> y.equals(v.getName()));
+        Set<Name> assignedVolunteers = event.getAssignedVolunteers();
+        Predicate<Volunteer> predicateShowVolunteers = v -> assignedVolunteers.contains(v.getName());
         model.updateFilteredVolunteerList(predicateShowVolunteers);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, event.getEventName().eventName,
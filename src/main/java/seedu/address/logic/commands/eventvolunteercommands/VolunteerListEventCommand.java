@@ -3,6 +3,7 @@ package seedu.address.logic.commands.eventvolunteercommands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.core.index.Index;
@@ -13,6 +14,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventName;
 import seedu.address.model.volunteer.Volunteer;
 
 /**
@@ -46,8 +48,8 @@ public class VolunteerListEventCommand extends Command {
         }
 
         Volunteer volunteerToList = lastShownVolunteerList.get(volunteerIndex.getZeroBased());
-        Predicate<Event> predicateShowEvents = event
-                -> volunteerToList.getAssignedEvents().stream().anyMatch(y -> y.equals(event.getEventName()));
+        Set<EventName> assignedEvents = volunteerToList.getAssignedEvents();
+        Predicate<Event> predicateShowEvents = event -> assignedEvents.contains(event.getEventName());
 
         model.updateFilteredEventList(predicateShowEvents);
 
@@ -47,11 +47,9 @@ public class VolunteerDeleteCommand extends Command {
         model.deleteVolunteer(volunteerToDelete);
 
         // cascading effect: deleting a volunteer should also remove them from the events they're in
-        for (Event event : model.getEventStorage().getEventList()) {
-            if (event.hasVolunteer(volunteerToDelete)) {
-                Event newEvent = event.removeVolunteer(volunteerToDelete);
-                model.setEvent(event, newEvent);
-            }
+        for (Event event : model.getEventsAssignedTo(volunteerToDelete)) {
+            Event newEvent = event.removeVolunteer(volunteerToDelete);
+            model.setEvent(event, newEvent);
         }
 
         model.commitToBothVersionedStorages(model.getEventStorage(), model.getVolunteerStorage());
@@ -86,8 +86,8 @@ public class VolunteerEditCommand extends Command {
         // set volunteer first
         model.setVolunteer(volunteerToEdit, editedVolunteer);
         model.updateFilteredVolunteerList(PREDICATE_SHOW_ALL_VOLUNTEERS);
-        // edit all role quantities to match the new edited volunteer
-        model.updateAllEventRoleQuantities();
+        // edit the role quantities of the volunteer's events to match the new edited volunteer
+        model.updateAssignedEventRoleQuantities(volunteerToEdit, editedVolunteer);
         model.commitToBothVersionedStorages(model.getEventStorage(), model.getVolunteerStorage());
         return new CommandResult(String.format(MESSAGE_EDIT_VOLUNTEER_SUCCESS, Messages.format(editedVolunteer)));
     }
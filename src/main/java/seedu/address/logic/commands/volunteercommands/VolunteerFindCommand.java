@@ -32,7 +32,7 @@ public class VolunteerFindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredVolunteerList(predicate);
+        model.findVolunteers(predicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_VOLUNTEERS_LISTED_OVERVIEW, model.getFilteredVolunteerList().size()));
     }
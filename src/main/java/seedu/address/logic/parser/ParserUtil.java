@@ -55,7 +55,7 @@ public class ParserUtil {
         if (!EventName.isValidEventName(trimmedName)) {
             throw new ParseException(EventName.MESSAGE_CONSTRAINTS);
         }
-        return new EventName(trimmedName);
+        return EventName.of(trimmedName);
     }
 
     /**
@@ -245,7 +245,7 @@ public class ParserUtil {
         if (!Name.isValidName(trimmedName)) {
             throw new ParseException(Name.MESSAGE_CONSTRAINTS);
         }
-        return new Name(trimmedName);
+        return Name.of(trimmedName);
     }
 
     /**
@@ -319,7 +319,7 @@ public class ParserUtil {
         if (!Skill.isValidSkillName(trimmedSkill)) {
             throw new ParseException(Skill.MESSAGE_CONSTRAINTS);
         }
-        return new Skill(trimmedSkill);
+        return Skill.of(trimmedSkill);
     }
 
     /**
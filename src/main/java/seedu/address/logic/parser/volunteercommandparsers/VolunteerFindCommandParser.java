@@ -48,6 +48,13 @@ public class VolunteerFindCommandParser implements Parser<VolunteerFindCommand>
         List<Name> names = new ArrayList<>(nameKeywords);
         Set<Skill> skillKeywords = ParserUtil.parseSkills(argMultimap.getAllValues(PREFIX_SKILL));
         List<Skill> skills = new ArrayList<>(skillKeywords);
+        // skills are matched word by word, see SkillNameContainsKeywordsPredicate
+        for (Skill skill : skills) {
+            if (!skill.isSingleWord()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, VolunteerFindCommand.MESSAGE_USAGE));
+            }
+        }
 
         return new VolunteerFindCommand(new SkillNameContainsKeywordsPredicate(names, skills));
     }
@@ -0,0 +1,208 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventName;
+import seedu.address.model.util.IntervalTree;
+import seedu.address.model.volunteer.Name;
+import seedu.address.model.volunteer.Volunteer;
+
+/**
+ * Indexes the assignments between events and volunteers in both directions, so that the events a volunteer is
+ * assigned to, or the volunteers assigned to an event, can be found without scanning every event or volunteer.
+ *
+ * Assignments are recorded on both sides, as {@code Event#getAssignedVolunteers()} and
+ * {@code Volunteer#getAssignedEvents()}. This index inverts each side: it maps every volunteer name to the events that
+ * list it, and every event name to the volunteers that list it. It also keeps the schedule of every volunteer, the
+ * times of the events the volunteer lists, in an {@code IntervalTree}, so that the events clashing with a new
+ * assignment can be found without checking every event the volunteer is assigned to.
+ * It listens to the event and volunteer lists, so it is kept in sync with every change made to them, including undo
+ * and redo.
+ */
+public class AssignmentIndex {
+
+    private static final Comparator<EventName> EVENT_NAME_COMPARATOR = Comparator.comparing(name -> name.eventName);
+
+    private final Map<Name, Set<EventName>> eventsByVolunteer = new HashMap<>();
+    private final Map<EventName, Set<Name>> volunteersByEvent = new HashMap<>();
+    private final Map<EventName, Event> eventsByName = new HashMap<>();
+    private final Map<Name, IntervalTree<EventName>> schedulesByVolunteer = new HashMap<>();
+
+    /**
+     * Creates an {@code AssignmentIndex} of the assignments in {@code events} and {@code volunteers}, which is updated
+     * whenever either list changes.
+     */
+    public AssignmentIndex(ObservableList<Event> events, ObservableList<Volunteer> volunteers) {
+        requireAllNonNull(events, volunteers);
+        events.forEach(this::indexEvent);
+        volunteers.forEach(this::indexVolunteer);
+        events.addListener((ListChangeListener<Event>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(this::unindexEvent);
+                change.getAddedSubList().forEach(this::indexEvent);
+            }
+        });
+        volunteers.addListener((ListChangeListener<Volunteer>) change -> {
+            while (change.next()) {
+                if (change.wasReplaced() && change.getRemovedSize() == change.getAddedSize()) {
+                    List<? extends Volunteer> added = change.getAddedSubList();
+                    for (int i = 0; i < added.size(); i++) {
+                        reindexVolunteer(change.getRemoved().get(i), added.get(i));
+                    }
+                } else {
+                    change.getRemoved().forEach(this::unindexVolunteer);
+                    change.getAddedSubList().forEach(this::indexVolunteer);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the names of the events that list the volunteer named {@code volunteerName} as assigned to them.
+     */
+    public Set<EventName> getEventsAssignedTo(Name volunteerName) {
+        return copyOf(eventsByVolunteer.get(volunteerName));
+    }
+
+    /**
+     * Returns the names of the volunteers that list the event named {@code eventName} as assigned to them.
+     */
+    public Set<Name> getVolunteersAssignedTo(EventName eventName) {
+        return copyOf(volunteersByEvent.get(eventName));
+    }
+
+    /**
+     * Returns the names of the events listed by the volunteer named {@code volunteerName} whose times overlap with
+     * the time of {@code event}, including events that only meet it at their start or end.
+     */
+    public List<EventName> getAssignedEventsOverlapping(Name volunteerName, Event event) {
+        IntervalTree<EventName> schedule = schedulesByVolunteer.get(volunteerName);
+        if (schedule == null) {
+            return Collections.emptyList();
+        }
+        return schedule.findOverlapping(getStart(event), getEnd(event));
+    }
+
+    private static <T> Set<T> copyOf(Set<T> set) {
+        return set == null ? Collections.emptySet() : Collections.unmodifiableSet(new HashSet<>(set));
+    }
+
+    private void indexEvent(Event event) {
+        EventName eventName = event.getEventName();
+        eventsByName.put(eventName, event);
+        for (Name volunteerName : event.getAssignedVolunteers()) {
+            addTo(eventsByVolunteer, volunteerName, eventName);
+        }
+        for (Name volunteerName : volunteersByEvent.getOrDefault(eventName, Collections.emptySet())) {
+            addToSchedule(volunteerName, event);
+        }
+    }
+
+    private void unindexEvent(Event event) {
+        EventName eventName = event.getEventName();
+        eventsByName.remove(eventName);
+        for (Name volunteerName : event.getAssignedVolunteers()) {
+            removeFrom(eventsByVolunteer, volunteerName, eventName);
+        }
+        for (Name volunteerName : volunteersByEvent.getOrDefault(eventName, Collections.emptySet())) {
+            removeFromSchedule(volunteerName, event);
+        }
+    }
+
+    private void indexVolunteer(Volunteer volunteer) {
+        for (EventName eventName : volunteer.getAssignedEvents()) {
+            addAssignment(volunteer.getName(), eventName);
+        }
+    }
+
+    private void unindexVolunteer(Volunteer volunteer) {
+        for (EventName eventName : volunteer.getAssignedEvents()) {
+            removeAssignment(volunteer.getName(), eventName);
+        }
+    }
+
+    /**
+     * Updates the index for {@code oldVolunteer} being replaced by {@code newVolunteer}, only changing the
+     * assignments that differ if the volunteer keeps the same name.
+     */
+    private void reindexVolunteer(Volunteer oldVolunteer, Volunteer newVolunteer) {
+        if (!oldVolunteer.getName().equals(newVolunteer.getName())) {
+            unindexVolunteer(oldVolunteer);
+            indexVolunteer(newVolunteer);
+            return;
+        }
+        Name volunteerName = newVolunteer.getName();
+        Set<EventName> oldEvents = oldVolunteer.getAssignedEvents();
+        Set<EventName> newEvents = newVolunteer.getAssignedEvents();
+        for (EventName eventName : oldEvents) {
+            if (!newEvents.contains(eventName)) {
+                removeAssignment(volunteerName, eventName);
+            }
+        }
+        for (EventName eventName : newEvents) {
+            if (!oldEvents.contains(eventName)) {
+                addAssignment(volunteerName, eventName);
+            }
+        }
+    }
+
+    private void addAssignment(Name volunteerName, EventName eventName) {
+        addTo(volunteersByEvent, eventName, volunteerName);
+        Event event = eventsByName.get(eventName);
+        if (event != null) {
+            addToSchedule(volunteerName, event);
+        }
+    }
+
+    private void removeAssignment(Name volunteerName, EventName eventName) {
+        removeFrom(volunteersByEvent, eventName, volunteerName);
+        Event event = eventsByName.get(eventName);
+        if (event != null) {
+            removeFromSchedule(volunteerName, event);
+        }
+    }
+
+    private void addToSchedule(Name volunteerName, Event event) {
+        schedulesByVolunteer.computeIfAbsent(volunteerName, unused -> new IntervalTree<>(EVENT_NAME_COMPARATOR))
+                .add(getStart(event), getEnd(event), event.getEventName());
+    }
+
+    private void removeFromSchedule(Name volunteerName, Event event) {
+        IntervalTree<EventName> schedule = schedulesByVolunteer.get(volunteerName);
+        if (schedule != null && schedule.remove(getStart(event), getEnd(event), event.getEventName())
+                && schedule.isEmpty()) {
+            schedulesByVolunteer.remove(volunteerName);
+        }
+    }
+
+    // the interval is ordered even if the event ends before it starts, so that it is never missed by a query
+    private static long getStart(Event event) {
+        return Math.min(event.getStartDate().toEpochMinute(), event.getEndDate().toEpochMinute());
+    }
+
+    private static long getEnd(Event event) {
+        return Math.max(event.getStartDate().toEpochMinute(), event.getEndDate().toEpochMinute());
+    }
+
+    private static <K, V> void addTo(Map<K, Set<V>> index, K key, V value) {
+        index.computeIfAbsent(key, unused -> new HashSet<>()).add(value);
+    }
+
+    private static <K, V> void removeFrom(Map<K, Set<V>> index, K key, V value) {
+        Set<V> values = index.get(key);
+        if (values != null && values.remove(value) && values.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
@@ -4,11 +4,14 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.List;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventName;
+import seedu.address.model.event.EventNameIndex;
 import seedu.address.model.event.UniqueEventList;
+import seedu.address.model.util.ListEdit;
 
 /**
  * Wraps all data at the event storage level
@@ -17,6 +20,8 @@ import seedu.address.model.event.UniqueEventList;
 public class EventStorage implements ReadOnlyEventStorage {
 
     private final UniqueEventList events;
+    private long modificationCount;
+    private EventNameIndex eventNameIndex;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -27,6 +32,14 @@ public class EventStorage implements ReadOnlyEventStorage {
      */
     {
         events = new UniqueEventList();
+        events.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Event>) change -> modificationCount++);
+        // registered before any other listener, so the index is up to date when they are notified of a change
+        events.asUnmodifiableObservableList().addListener((ListChangeListener<Event>) change -> {
+            if (eventNameIndex != null) {
+                eventNameIndex.onChanged(change);
+            }
+        });
     }
 
     public EventStorage() {}
@@ -49,6 +62,21 @@ public class EventStorage implements ReadOnlyEventStorage {
         this.events.setEvents(events);
     }
 
+    /**
+     * Replaces the contents of the event storage with the already-validated {@code events}, without checking them
+     * for duplicates again.
+     */
+    public void restoreEvents(List<Event> events) {
+        this.events.restoreEvents(events);
+    }
+
+    /**
+     * Applies {@code edit}, which was recorded from the event list, to undo or redo a change to the event storage.
+     */
+    public void applyEdit(ListEdit<Event> edit) {
+        events.applyEdit(edit);
+    }
+
     /**
      * Resets the existing data of this {@code EventStorage} with {@code newData}.
      */
@@ -102,10 +130,14 @@ public class EventStorage implements ReadOnlyEventStorage {
     }
 
     /**
-     * Sorts UniqueEventList in ascending order, by their date and time.
+     * Returns the index of the names of the events in this {@code EventStorage}. The index is built on the first
+     * call, and is kept in sync with the event list from then on.
      */
-    public void sortEvents() {
-        events.sortEvents();
+    public EventNameIndex getEventNameIndex() {
+        if (eventNameIndex == null) {
+            eventNameIndex = new EventNameIndex(events.asUnmodifiableObservableList());
+        }
+        return eventNameIndex;
     }
 
     //// util methods
@@ -117,6 +149,11 @@ public class EventStorage implements ReadOnlyEventStorage {
                 .toString();
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public ObservableList<Event> getEventList() {
         return events.asUnmodifiableObservableList();
@@ -1,12 +1,15 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventNameContainsKeywordsPredicate;
+import seedu.address.model.volunteer.SkillNameContainsKeywordsPredicate;
 import seedu.address.model.volunteer.Volunteer;
 
 /**
@@ -91,6 +94,13 @@ public interface Model {
      */
     void updateFilteredEventList(Predicate<Event> predicate);
 
+    /**
+     * Updates the filter of the filtered event list to show the events matching {@code predicate}, only checking the
+     * names of the events that may match instead of the name of every event.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void findEvents(EventNameContainsKeywordsPredicate predicate);
+
     /** Returns an unmodifiable view of the event to display in the event window */
     ObservableList<Event> getEventToShowList();
 
@@ -144,6 +154,21 @@ public interface Model {
      */
     void setVolunteer(Volunteer target, Volunteer editedVolunteer);
 
+    /**
+     * Returns the events that list {@code volunteer} as assigned to them.
+     */
+    List<Event> getEventsAssignedTo(Volunteer volunteer);
+
+    /**
+     * Returns the volunteers that list {@code event} as assigned to them.
+     */
+    List<Volunteer> getVolunteersAssignedTo(Event event);
+
+    /**
+     * Returns the events that {@code volunteer} is assigned to which clash with {@code event}.
+     */
+    List<Event> getClashingAssignedEvents(Volunteer volunteer, Event event);
+
     /** Returns an unmodifiable view of the filtered volunteer list */
     ObservableList<Volunteer> getFilteredVolunteerList();
 
@@ -152,6 +177,14 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredVolunteerList(Predicate<Volunteer> predicate);
+
+    /**
+     * Updates the filter of the filtered volunteer list to show the volunteers matching {@code predicate}, looking up
+     * the volunteers with the skills it asks for instead of checking the skills of every volunteer.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void findVolunteers(SkillNameContainsKeywordsPredicate predicate);
+
     /**
      * Points the Event and Volunteer state to the previous state.
      */
@@ -171,12 +204,18 @@ public interface Model {
     /** Returns an unmodifiable view of the versionedEventStorage */
     VersionedEventStorage getVersionedEventStorage();
 
+    /**
+     * Returns the estimated number of bytes retained by the undo/redo history of both storages.
+     */
+    long getVersionHistoryMemoryFootprint();
+
     // Functionality to change Role quantities after an edit is done to Volunteer or Event
 
     /**
-     * Updates all Role quantities for every Event within the model using updateEventRoleQuantities.
+     * Updates the Role quantities of the events that {@code target} is assigned to, after {@code target} is replaced
+     * by {@code editedVolunteer}. Only the roles matching a skill that {@code target} gained or lost are changed.
      */
-    void updateAllEventRoleQuantities();
+    void updateAssignedEventRoleQuantities(Volunteer target, Volunteer editedVolunteer);
 
     /**
      * Updates the event's role quantities based on the volunteers currently in the model's volunteer list, returning
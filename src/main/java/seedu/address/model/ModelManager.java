@@ -4,9 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -17,9 +19,13 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventNameContainsKeywordsPredicate;
 import seedu.address.model.event.Role;
 import seedu.address.model.skill.Skill;
+import seedu.address.model.util.ListChangeRecorder;
+import seedu.address.model.util.ListEdit;
 import seedu.address.model.volunteer.Name;
+import seedu.address.model.volunteer.SkillNameContainsKeywordsPredicate;
 import seedu.address.model.volunteer.Volunteer;
 
 /**
@@ -36,6 +42,9 @@ public class ModelManager implements Model {
     private final FilteredList<Volunteer> filteredVolunteers;
     private final FilteredList<Event> filteredEvents;
     private final FilteredList<Event> eventToShowList;
+    private final ListChangeRecorder<Volunteer> volunteerChangeRecorder = new ListChangeRecorder<>();
+    private final ListChangeRecorder<Event> eventChangeRecorder = new ListChangeRecorder<>();
+    private final AssignmentIndex assignmentIndex;
 
     /**
      * Initializes a ModelManager with the given eventStorage, volunteerStorage and userPrefs.
@@ -55,6 +64,10 @@ public class ModelManager implements Model {
         this.eventToShowList = new FilteredList<>(this.eventStorage.getEventList());
         this.versionedEventStorage = new VersionedEventStorage(eventStorage);
         this.versionedVolunteerStorage = new VersionedVolunteerStorage(volunteerStorage);
+        this.eventStorage.getEventList().addListener(eventChangeRecorder);
+        this.volunteerStorage.getVolunteerList().addListener(volunteerChangeRecorder);
+        this.assignmentIndex = new AssignmentIndex(this.eventStorage.getEventList(),
+                this.volunteerStorage.getVolunteerList());
     }
 
     public ModelManager() {
@@ -109,16 +122,29 @@ public class ModelManager implements Model {
     //=========== Event and Volunteer versioned history ========================================================
     @Override
     public void undoBothStorages() throws CommandException {
+        // changes made since the last commit are not part of any recorded edit, so the edits cannot be undone
+        boolean canReplayEdits = !hasUncommittedChanges();
+
+        List<ListEdit<Volunteer>> volunteerEdits = versionedVolunteerStorage.getCurrentStateEdits();
         List<Volunteer> newVolunteerState = versionedVolunteerStorage.undo();
         assert newVolunteerState != null;
-        volunteerStorage.setVolunteers(newVolunteerState);
-        updateFilteredVolunteerList(PREDICATE_SHOW_ALL_VOLUNTEERS);
+        if (canReplayEdits && volunteerEdits != null) {
+            undoEdits(volunteerEdits, volunteerStorage::applyEdit);
+        } else {
+            volunteerStorage.restoreVolunteers(newVolunteerState);
+        }
 
+        List<ListEdit<Event>> eventEdits = versionedEventStorage.getCurrentStateEdits();
         List<Event> newEventState = versionedEventStorage.undo();
         assert newEventState != null;
-        eventStorage.setEvents(newEventState);
-        updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
+        if (canReplayEdits && eventEdits != null) {
+            undoEdits(eventEdits, eventStorage::applyEdit);
+        } else {
+            eventStorage.restoreEvents(newEventState);
+        }
 
+        clearRecordedChanges();
+        showAllVolunteersAndEvents();
         logger.info("Size of version history is: "
                 + versionedEventStorage.getVersionedEventsSize()
                 + ". Current state pointer is: "
@@ -126,16 +152,28 @@ public class ModelManager implements Model {
     }
     @Override
     public void redoBothStorages() throws CommandException {
+        boolean canReplayEdits = !hasUncommittedChanges();
+
         List<Volunteer> newVolunteerState = versionedVolunteerStorage.redo();
         assert newVolunteerState != null;
-        volunteerStorage.setVolunteers(newVolunteerState);
-        updateFilteredVolunteerList(PREDICATE_SHOW_ALL_VOLUNTEERS);
+        List<ListEdit<Volunteer>> volunteerEdits = versionedVolunteerStorage.getCurrentStateEdits();
+        if (canReplayEdits && volunteerEdits != null) {
+            volunteerEdits.forEach(volunteerStorage::applyEdit);
+        } else {
+            volunteerStorage.restoreVolunteers(newVolunteerState);
+        }
 
         List<Event> newEventState = versionedEventStorage.redo();
         assert newEventState != null;
-        eventStorage.setEvents(newEventState);
-        updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
+        List<ListEdit<Event>> eventEdits = versionedEventStorage.getCurrentStateEdits();
+        if (canReplayEdits && eventEdits != null) {
+            eventEdits.forEach(eventStorage::applyEdit);
+        } else {
+            eventStorage.restoreEvents(newEventState);
+        }
 
+        clearRecordedChanges();
+        showAllVolunteersAndEvents();
         logger.info("Size of version history is: "
                 + versionedEventStorage.getVersionedEventsSize()
                 + ". Current state pointer is: "
@@ -145,15 +183,79 @@ public class ModelManager implements Model {
     public void commitToBothVersionedStorages(ReadOnlyEventStorage readOnlyEventStorage,
                                               ReadOnlyVolunteerStorage readOnlyVolunteerStorage) {
         requireAllNonNull(readOnlyEventStorage, readOnlyVolunteerStorage);
+        // the recorded edits only describe the new state if it is the state of this model
+        List<ListEdit<Event>> eventEdits = eventChangeRecorder.drain();
+        List<ListEdit<Volunteer>> volunteerEdits = volunteerChangeRecorder.drain();
         versionedEventStorage.shiftPointerForward();
-        versionedEventStorage.saveNewState(readOnlyEventStorage);
+        versionedEventStorage.saveNewState(readOnlyEventStorage,
+                readOnlyEventStorage == eventStorage ? eventEdits : null);
         versionedVolunteerStorage.shiftPointerForward();
-        versionedVolunteerStorage.saveNewState(readOnlyVolunteerStorage);
+        versionedVolunteerStorage.saveNewState(readOnlyVolunteerStorage,
+                readOnlyVolunteerStorage == volunteerStorage ? volunteerEdits : null);
+        trimVersionHistory();
 
         logger.info("Committed to version history. Size of version history is: "
                 + versionedEventStorage.getVersionedEventsSize()
                 + ". Current state pointer is: "
-                + versionedEventStorage.getCurrentStatePointer());
+                + versionedEventStorage.getCurrentStatePointer()
+                + ". Estimated memory footprint is: "
+                + getVersionHistoryMemoryFootprint() + " bytes");
+    }
+
+    private boolean hasUncommittedChanges() {
+        return eventChangeRecorder.hasEdits() || volunteerChangeRecorder.hasEdits();
+    }
+
+    private void clearRecordedChanges() {
+        eventChangeRecorder.clear();
+        volunteerChangeRecorder.clear();
+    }
+
+    /**
+     * Undoes {@code edits} by applying their inverses in reverse order.
+     */
+    private static <T> void undoEdits(List<ListEdit<T>> edits, Consumer<ListEdit<T>> applyEdit) {
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            applyEdit.accept(edits.get(i).inverse());
+        }
+    }
+
+    /**
+     * Shows all volunteers and events, leaving the filtered lists untouched if they already do so, so that the list
+     * views only re-render the rows affected by an undo or redo.
+     */
+    private void showAllVolunteersAndEvents() {
+        if (!isShowingAll(filteredVolunteers, PREDICATE_SHOW_ALL_VOLUNTEERS)) {
+            updateFilteredVolunteerList(PREDICATE_SHOW_ALL_VOLUNTEERS);
+        }
+        if (!isShowingAll(filteredEvents, PREDICATE_SHOW_ALL_EVENTS)
+                || !isShowingAll(eventToShowList, PREDICATE_SHOW_ALL_EVENTS)) {
+            updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
+        }
+    }
+
+    private static <T> boolean isShowingAll(FilteredList<T> list, Predicate<T> showAllPredicate) {
+        return list.getPredicate() == null || list.getPredicate() == showAllPredicate;
+    }
+
+    /**
+     * Discards the oldest states of both versioned storages, together so that their pointers stay in sync, until the
+     * history is within the undo history limit and memory budget in the user prefs. The current state is always kept.
+     */
+    private void trimVersionHistory() {
+        assert versionedEventStorage.getCurrentStatePointer() == versionedVolunteerStorage.getCurrentStatePointer();
+        while (versionedEventStorage.getCurrentStatePointer() > 0
+                && (versionedEventStorage.getVersionedEventsSize() - 1 > userPrefs.getUndoHistoryLimit()
+                || getVersionHistoryMemoryFootprint() > userPrefs.getUndoHistoryMemoryBudget())) {
+            versionedEventStorage.removeOldestState();
+            versionedVolunteerStorage.removeOldestState();
+        }
+    }
+
+    @Override
+    public long getVersionHistoryMemoryFootprint() {
+        return versionedEventStorage.getEstimatedMemoryFootprint()
+                + versionedVolunteerStorage.getEstimatedMemoryFootprint();
     }
     @Override
     public VersionedVolunteerStorage getVersionedVolunteerStorage() {
@@ -189,7 +291,6 @@ public class ModelManager implements Model {
     @Override
     public void addEvent(Event event) {
         eventStorage.addEvent(event);
-        eventStorage.sortEvents();
         updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
     }
 
@@ -236,6 +337,34 @@ public class ModelManager implements Model {
         volunteerStorage.setVolunteer(target, editedVolunteer);
     }
 
+    //=========== Event and Volunteer Assignments =============================================================
+
+    @Override
+    public List<Event> getEventsAssignedTo(Volunteer volunteer) {
+        requireNonNull(volunteer);
+        return assignmentIndex.getEventsAssignedTo(volunteer.getName()).stream()
+                .map(eventStorage::getEvent)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Volunteer> getVolunteersAssignedTo(Event event) {
+        requireNonNull(event);
+        return assignmentIndex.getVolunteersAssignedTo(event.getEventName()).stream()
+                .map(volunteerStorage::getVolunteer)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Event> getClashingAssignedEvents(Volunteer volunteer, Event event) {
+        requireAllNonNull(volunteer, event);
+        // the interval index finds every event sharing a point in time with the event, so only those are checked
+        return assignmentIndex.getAssignedEventsOverlapping(volunteer.getName(), event).stream()
+                .map(eventStorage::getEvent)
+                .filter(event::isClashingWith)
+                .collect(Collectors.toList());
+    }
+
     //=========== Filtered Event List Accessors =============================================================
 
     /**
@@ -254,6 +383,12 @@ public class ModelManager implements Model {
         eventToShowList.setPredicate(predicate);
     }
 
+    @Override
+    public void findEvents(EventNameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        updateFilteredEventList(predicate.using(eventStorage.getEventNameIndex()));
+    }
+
     /**
      * Returns an unmodifiable view of the list of {@code Event} backed by the internal list of
      * {@code versionedEventStorage}
@@ -270,12 +405,26 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void updateAllEventRoleQuantities() {
-        // eventList is the list of all events
-        List<Event> eventList = getEventStorage().getEventList();
-        for (Event event : eventList) {
-            Event newEvent = updateEventRoleQuantities(event);
-            setEvent(event, newEvent);
+    public void updateAssignedEventRoleQuantities(Volunteer target, Volunteer editedVolunteer) {
+        requireAllNonNull(target, editedVolunteer);
+
+        if (target.isSameVolunteer(editedVolunteer)) {
+            updateVolunteerSkills(getEventsAssignedTo(target), target.getSkills(), editedVolunteer.getSkills());
+            return;
+        }
+        // events refer to volunteers by name, so a renamed volunteer is no longer counted by the events listing
+        // the old name, and is counted by any event listing the new name instead
+        updateVolunteerSkills(getEventsAssignedTo(target), target.getSkills(), Collections.emptySet());
+        updateVolunteerSkills(getEventsAssignedTo(editedVolunteer), Collections.emptySet(),
+                editedVolunteer.getSkills());
+    }
+
+    private void updateVolunteerSkills(List<Event> events, Set<Skill> oldSkills, Set<Skill> newSkills) {
+        for (Event event : events) {
+            Event newEvent = event.updateVolunteerSkills(oldSkills, newSkills);
+            if (newEvent != event) {
+                setEvent(event, newEvent);
+            }
         }
     }
 
@@ -333,6 +482,12 @@ public class ModelManager implements Model {
         filteredVolunteers.setPredicate(predicate);
     }
 
+    @Override
+    public void findVolunteers(SkillNameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        filteredVolunteers.setPredicate(predicate.using(volunteerStorage.getSkillIndex()));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -20,4 +20,10 @@ public interface ReadOnlyEventStorage {
      */
     Event getEvent(EventName eventName);
 
+    /**
+     * Returns the number of times the event list has been modified. The count changes whenever the list does, so it
+     * can be compared with an earlier count to tell whether the list has changed since then.
+     */
+    long getModificationCount();
+
 }
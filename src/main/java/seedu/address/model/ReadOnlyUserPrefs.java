@@ -3,6 +3,7 @@ package seedu.address.model;
 import java.nio.file.Path;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -14,4 +15,10 @@ public interface ReadOnlyUserPrefs {
     Path getVolunteerStorageFilePath();
 
     Path getEventStorageFilePath();
+
+    StorageFormat getStorageFormat();
+
+    int getUndoHistoryLimit();
+
+    long getUndoHistoryMemoryBudget();
 }
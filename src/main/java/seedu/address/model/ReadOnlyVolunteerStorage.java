@@ -14,4 +14,10 @@ public interface ReadOnlyVolunteerStorage {
      */
     ObservableList<Volunteer> getVolunteerList();
 
+    /**
+     * Returns the number of times the volunteer list has been modified. The count changes whenever the list does, so
+     * it can be compared with an earlier count to tell whether the list has changed since then.
+     */
+    long getModificationCount();
+
 }
@@ -1,21 +1,29 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_LIMIT = 100;
+    public static final long DEFAULT_UNDO_HISTORY_MEMORY_BUDGET = 64L * 1024 * 1024;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path volunteerStorageFilePath = Paths.get("data" , "volunteerStorage.json");
     private Path eventStorageFilePath = Paths.get("data", "eventStorage.json");
+    private StorageFormat storageFormat = StorageFormat.JSON;
+    private int undoHistoryLimit = DEFAULT_UNDO_HISTORY_LIMIT;
+    private long undoHistoryMemoryBudget = DEFAULT_UNDO_HISTORY_MEMORY_BUDGET;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -38,6 +46,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setVolunteerStorageFilePath(newUserPrefs.getVolunteerStorageFilePath());
         setEventStorageFilePath(newUserPrefs.getEventStorageFilePath());
+        setStorageFormat(newUserPrefs.getStorageFormat());
+        setUndoHistoryLimit(newUserPrefs.getUndoHistoryLimit());
+        setUndoHistoryMemoryBudget(newUserPrefs.getUndoHistoryMemoryBudget());
     }
 
     public GuiSettings getGuiSettings() {
@@ -65,6 +76,39 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.eventStorageFilePath = eventStorageFilePath;
     }
 
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    public void setStorageFormat(StorageFormat storageFormat) {
+        requireNonNull(storageFormat);
+        this.storageFormat = storageFormat;
+    }
+
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    /**
+     * Sets the maximum number of commands that can be undone.
+     */
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        checkArgument(undoHistoryLimit >= 0, "Undo history limit must not be negative");
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
+    public long getUndoHistoryMemoryBudget() {
+        return undoHistoryMemoryBudget;
+    }
+
+    /**
+     * Sets the estimated number of bytes that the undo history may retain before its oldest states are discarded.
+     */
+    public void setUndoHistoryMemoryBudget(long undoHistoryMemoryBudget) {
+        checkArgument(undoHistoryMemoryBudget >= 0, "Undo history memory budget must not be negative");
+        this.undoHistoryMemoryBudget = undoHistoryMemoryBudget;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -79,12 +123,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
                 && volunteerStorageFilePath.equals(otherUserPrefs.volunteerStorageFilePath)
-                && eventStorageFilePath.equals(otherUserPrefs.eventStorageFilePath);
+                && eventStorageFilePath.equals(otherUserPrefs.eventStorageFilePath)
+                && storageFormat == otherUserPrefs.storageFormat
+                && undoHistoryLimit == otherUserPrefs.undoHistoryLimit
+                && undoHistoryMemoryBudget == otherUserPrefs.undoHistoryMemoryBudget;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, volunteerStorageFilePath, eventStorageFilePath);
+        return Objects.hash(guiSettings, volunteerStorageFilePath, eventStorageFilePath, storageFormat,
+                undoHistoryLimit, undoHistoryMemoryBudget);
     }
 
     @Override
@@ -93,6 +141,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nVolunteer data file location : " + volunteerStorageFilePath);
         sb.append("\nEvent data file location : " + eventStorageFilePath);
+        sb.append("\nData file format : " + storageFormat);
+        sb.append("\nUndo history limit : " + undoHistoryLimit);
+        sb.append("\nUndo history memory budget : " + undoHistoryMemoryBudget);
         return sb.toString();
     }
 
@@ -9,13 +9,23 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.event.Event;
-import seedu.address.model.event.UniqueEventList;
+import seedu.address.model.util.ListEdit;
+import seedu.address.model.util.PersistentList;
 
 /**
  * Stores the history of Events.
+ * Each version is a {@code PersistentList} that shares its unchanged parts with the previous version, so a commit
+ * only allocates memory for the events that were added, removed or replaced since the previous version.
+ * Each version may also store the edits that turn the previous version into it, so that undo and redo can apply only
+ * the changed events instead of replacing the whole list.
  */
 public class VersionedEventStorage extends EventStorage {
-    private final ArrayList<UniqueEventList> versionedEvents = new ArrayList<>();
+
+    /** Estimated size of an event in bytes, including its names, dates and sets of roles, materials and volunteers. */
+    public static final long ESTIMATED_EVENT_BYTES = 1024;
+
+    private final ArrayList<PersistentList<Event>> versionedEvents = new ArrayList<>();
+    private final ArrayList<List<ListEdit<Event>>> versionedEventEdits = new ArrayList<>();
     private int currentStatePointer;
     private final Logger logger = LogsCenter.getLogger(VersionedEventStorage.class);
     /**
@@ -31,8 +41,8 @@ public class VersionedEventStorage extends EventStorage {
      */
     public void initState(ReadOnlyEventStorage initialState) {
         requireNonNull(initialState);
-        UniqueEventList uniqueEventList = generateUniqueEventList(initialState);
-        versionedEvents.add(uniqueEventList);
+        versionedEvents.add(PersistentList.of(initialState.getEventList()));
+        versionedEventEdits.add(null);
         logger.info("Initialising versioned events history");
     }
 
@@ -54,23 +64,71 @@ public class VersionedEventStorage extends EventStorage {
         return currentStatePointer;
     }
 
+    /**
+     * Returns the edits that turn the previous state of Events into the state the currentStatePointer points to, or
+     * null if they are not known.
+     */
+    public List<ListEdit<Event>> getCurrentStateEdits() {
+        return versionedEventEdits.get(currentStatePointer);
+    }
+
     public int getVersionedEventsSize() {
         return versionedEvents.size();
     }
 
+    /**
+     * Returns the estimated number of bytes retained by the history of Events.
+     * The oldest state is counted in full, and every later state only counts the memory it does not share with the
+     * state it was derived from, including the events that were added or replaced in it.
+     */
+    public long getEstimatedMemoryFootprint() {
+        long footprint = versionedEvents.get(0).getEstimatedSizeInBytes(ESTIMATED_EVENT_BYTES);
+        for (int i = 1; i < versionedEvents.size(); i++) {
+            footprint += versionedEvents.get(i).getEstimatedAllocatedBytes(ESTIMATED_EVENT_BYTES);
+        }
+        return footprint;
+    }
+
+    /**
+     * Discards the oldest saved state of Events, and shifts the currentStatePointer back to keep pointing at the same
+     * state. The state that the currentStatePointer points to cannot be discarded.
+     */
+    public void removeOldestState() {
+        assert currentStatePointer > 0;
+        versionedEvents.remove(0);
+        versionedEventEdits.remove(0);
+        // the edits leading to the new oldest state can no longer be undone
+        versionedEventEdits.set(0, null);
+        shiftPointerBackwards();
+    }
+
     /**
      * When commands that change the current state of Events are executed, the new state of Events will be
      * saved and added to versionedEvents.
      * @param readOnlyEventStorage The new state of Events
      */
     public void saveNewState(ReadOnlyEventStorage readOnlyEventStorage) {
+        saveNewState(readOnlyEventStorage, null);
+    }
+
+    /**
+     * Saves the new state of Events like {@link #saveNewState(ReadOnlyEventStorage)}, together with {@code edits}, the
+     * edits that turn the previous state into the new state. {@code edits} may be null if they are not known.
+     */
+    public void saveNewState(ReadOnlyEventStorage readOnlyEventStorage, List<ListEdit<Event>> edits) {
         requireNonNull(readOnlyEventStorage);
-        UniqueEventList newState = generateUniqueEventList(readOnlyEventStorage);
         if (versionedEvents.size() > currentStatePointer) {
             trimVersionedEvents();
         }
         assert versionedEvents.size() == currentStatePointer;
+        PersistentList<Event> previousState = versionedEvents.get(currentStatePointer - 1);
+        // the recorded edits only visit the changed events, while the list has to be compared with the previous
+        // state if they are not known
+        PersistentList<Event> newState = edits == null
+                ? previousState.withContentsOf(readOnlyEventStorage.getEventList())
+                : previousState.withEdits(edits);
         versionedEvents.add(currentStatePointer, newState);
+        versionedEventEdits.add(currentStatePointer, edits);
     }
     private void trimVersionedEvents() {
         int size = versionedEvents.size();
@@ -78,6 +136,7 @@ public class VersionedEventStorage extends EventStorage {
             // changed implementation to remove from largest index to smallest, if not will result in
             // InvocationTargetException in certain cases
             versionedEvents.remove(i);
+            versionedEventEdits.remove(i);
         }
     }
     /**
@@ -109,8 +168,7 @@ public class VersionedEventStorage extends EventStorage {
     }
     private List<Event> getCurrentEventState() {
         assert versionedEvents.size() > currentStatePointer;
-        UniqueEventList newState = versionedEvents.get(currentStatePointer);
-        return newState.asUnmodifiableObservableList();
+        return versionedEvents.get(currentStatePointer);
     }
     private void canRedoVersionedEvents() throws CommandException {
         if (versionedEvents.size() == currentStatePointer + 1) {
@@ -119,11 +177,4 @@ public class VersionedEventStorage extends EventStorage {
         }
         assert currentStatePointer < versionedEvents.size();
     }
-    private static UniqueEventList generateUniqueEventList(ReadOnlyEventStorage readOnlyEventStorage) {
-        requireNonNull(readOnlyEventStorage);
-        List<Event> events = readOnlyEventStorage.getEventList();
-        UniqueEventList uniqueEventList = new UniqueEventList();
-        uniqueEventList.setEvents(events);
-        return uniqueEventList;
-    }
 }
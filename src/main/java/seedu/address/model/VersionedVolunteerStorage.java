@@ -8,14 +8,24 @@ import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.volunteer.UniqueVolunteerList;
+import seedu.address.model.util.ListEdit;
+import seedu.address.model.util.PersistentList;
 import seedu.address.model.volunteer.Volunteer;
 
 /**
  * Stores the history of Volunteers.
+ * Each version is a {@code PersistentList} that shares its unchanged parts with the previous version, so a commit
+ * only allocates memory for the volunteers that were added, removed or replaced since the previous version.
+ * Each version may also store the edits that turn the previous version into it, so that undo and redo can apply only
+ * the changed volunteers instead of replacing the whole list.
  */
 public class VersionedVolunteerStorage extends VolunteerStorage {
-    private final ArrayList<UniqueVolunteerList> versionedVolunteers = new ArrayList<>();
+
+    /** Estimated size of a volunteer in bytes, including its name, contact details and sets of skills and events. */
+    public static final long ESTIMATED_VOLUNTEER_BYTES = 512;
+
+    private final ArrayList<PersistentList<Volunteer>> versionedVolunteers = new ArrayList<>();
+    private final ArrayList<List<ListEdit<Volunteer>>> versionedVolunteerEdits = new ArrayList<>();
     private int currentStatePointer;
     private final Logger logger = LogsCenter.getLogger(VersionedVolunteerStorage.class);
     /**
@@ -31,8 +41,8 @@ public class VersionedVolunteerStorage extends VolunteerStorage {
      */
     public void initState(ReadOnlyVolunteerStorage initialState) {
         requireNonNull(initialState);
-        UniqueVolunteerList uniqueVolunteerList = generateUniqueVolunteerList(initialState);
-        versionedVolunteers.add(uniqueVolunteerList);
+        versionedVolunteers.add(PersistentList.of(initialState.getVolunteerList()));
+        versionedVolunteerEdits.add(null);
         logger.info("Initialising versioned volunteers history");
     }
 
@@ -54,23 +64,72 @@ public class VersionedVolunteerStorage extends VolunteerStorage {
         return currentStatePointer;
     }
 
+    /**
+     * Returns the edits that turn the previous state of Volunteers into the state the currentStatePointer points to, or
+     * null if they are not known.
+     */
+    public List<ListEdit<Volunteer>> getCurrentStateEdits() {
+        return versionedVolunteerEdits.get(currentStatePointer);
+    }
+
     public int getVersionedVolunteersSize() {
         return versionedVolunteers.size();
     }
 
+    /**
+     * Returns the estimated number of bytes retained by the history of Volunteers.
+     * The oldest state is counted in full, and every later state only counts the memory it does not share with the
+     * state it was derived from, including the volunteers that were added or replaced in it.
+     */
+    public long getEstimatedMemoryFootprint() {
+        long footprint = versionedVolunteers.get(0).getEstimatedSizeInBytes(ESTIMATED_VOLUNTEER_BYTES);
+        for (int i = 1; i < versionedVolunteers.size(); i++) {
+            footprint += versionedVolunteers.get(i).getEstimatedAllocatedBytes(ESTIMATED_VOLUNTEER_BYTES);
+        }
+        return footprint;
+    }
+
+    /**
+     * Discards the oldest saved state of Volunteers, and shifts the currentStatePointer back to keep pointing at the
+     * same state. The state that the currentStatePointer points to cannot be discarded.
+     */
+    public void removeOldestState() {
+        assert currentStatePointer > 0;
+        versionedVolunteers.remove(0);
+        versionedVolunteerEdits.remove(0);
+        // the edits leading to the new oldest state can no longer be undone
+        versionedVolunteerEdits.set(0, null);
+        shiftPointerBackwards();
+    }
+
     /**
      * When commands that change the current state of Volunteers are executed, the new state of Volunteers will be
      * saved and added to versionedVolunteers.
      * @param readOnlyVolunteerStorage The new state of Volunteers.
      */
     public void saveNewState(ReadOnlyVolunteerStorage readOnlyVolunteerStorage) {
-        UniqueVolunteerList newState = generateUniqueVolunteerList(readOnlyVolunteerStorage);
+        saveNewState(readOnlyVolunteerStorage, null);
+    }
+
+    /**
+     * Saves the new state of Volunteers like {@link #saveNewState(ReadOnlyVolunteerStorage)}, together with
+     * {@code edits}, the edits that turn the previous state into the new state. {@code edits} may be null if they are
+     * not known.
+     */
+    public void saveNewState(ReadOnlyVolunteerStorage readOnlyVolunteerStorage, List<ListEdit<Volunteer>> edits) {
         requireNonNull(readOnlyVolunteerStorage);
         if (versionedVolunteers.size() > currentStatePointer) {
             trimVersionedVolunteers();
         }
         assert versionedVolunteers.size() == currentStatePointer;
+        PersistentList<Volunteer> previousState = versionedVolunteers.get(currentStatePointer - 1);
+        // the recorded edits only visit the changed volunteers, while the list has to be compared with the previous
+        // state if they are not known
+        PersistentList<Volunteer> newState = edits == null
+                ? previousState.withContentsOf(readOnlyVolunteerStorage.getVolunteerList())
+                : previousState.withEdits(edits);
         versionedVolunteers.add(currentStatePointer, newState);
+        versionedVolunteerEdits.add(currentStatePointer, edits);
     }
     private void trimVersionedVolunteers() {
         int size = versionedVolunteers.size();
@@ -78,6 +137,7 @@ public class VersionedVolunteerStorage extends VolunteerStorage {
             // changed implementation to remove from largest index to smallest, if not will result in
             // InvocationTargetException in certain cases
             versionedVolunteers.remove(i);
+            versionedVolunteerEdits.remove(i);
         }
     }
     /**
@@ -109,8 +169,7 @@ public class VersionedVolunteerStorage extends VolunteerStorage {
     }
     private List<Volunteer> getCurrentVolunteerState() {
         assert versionedVolunteers.size() > currentStatePointer;
-        UniqueVolunteerList newState = versionedVolunteers.get(currentStatePointer);
-        return newState.asUnmodifiableObservableList();
+        return versionedVolunteers.get(currentStatePointer);
     }
     private void canRedoVersionedVolunteers() throws CommandException {
         if (versionedVolunteers.size() == currentStatePointer + 1) {
@@ -119,11 +178,4 @@ public class VersionedVolunteerStorage extends VolunteerStorage {
         }
         assert currentStatePointer < versionedVolunteers.size();
     }
-    private static UniqueVolunteerList generateUniqueVolunteerList(ReadOnlyVolunteerStorage readOnlyVolunteerStorage) {
-        requireNonNull(readOnlyVolunteerStorage);
-        List<Volunteer> volunteers = readOnlyVolunteerStorage.getVolunteerList();
-        UniqueVolunteerList uniqueVolunteerList = new UniqueVolunteerList();
-        uniqueVolunteerList.setVolunteers(volunteers);
-        return uniqueVolunteerList;
-    }
 }
@@ -4,8 +4,12 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.List;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.util.ListEdit;
+import seedu.address.model.volunteer.Name;
+import seedu.address.model.volunteer.SkillIndex;
 import seedu.address.model.volunteer.UniqueVolunteerList;
 import seedu.address.model.volunteer.Volunteer;
 
@@ -16,6 +20,8 @@ import seedu.address.model.volunteer.Volunteer;
 public class VolunteerStorage implements ReadOnlyVolunteerStorage {
 
     private final UniqueVolunteerList volunteers;
+    private long modificationCount;
+    private SkillIndex skillIndex;
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -25,6 +31,14 @@ public class VolunteerStorage implements ReadOnlyVolunteerStorage {
      */
     {
         volunteers = new UniqueVolunteerList();
+        volunteers.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Volunteer>) change -> modificationCount++);
+        // registered before any other listener, so the index is up to date when they are notified of a change
+        volunteers.asUnmodifiableObservableList().addListener((ListChangeListener<Volunteer>) change -> {
+            if (skillIndex != null) {
+                skillIndex.onChanged(change);
+            }
+        });
     }
 
     public VolunteerStorage() {}
@@ -47,6 +61,22 @@ public class VolunteerStorage implements ReadOnlyVolunteerStorage {
         this.volunteers.setVolunteers(volunteers);
     }
 
+    /**
+     * Replaces the contents of the volunteer storage with the already-validated {@code volunteers}, without checking
+     * them for duplicates again.
+     */
+    public void restoreVolunteers(List<Volunteer> volunteers) {
+        this.volunteers.restoreVolunteers(volunteers);
+    }
+
+    /**
+     * Applies {@code edit}, which was recorded from the volunteer list, to undo or redo a change to the volunteer
+     * storage.
+     */
+    public void applyEdit(ListEdit<Volunteer> edit) {
+        volunteers.applyEdit(edit);
+    }
+
     /**
      * Resets the existing data of this {@code VolunteerStorage} with {@code newData}.
      */
@@ -86,6 +116,14 @@ public class VolunteerStorage implements ReadOnlyVolunteerStorage {
         volunteers.setVolunteer(target, editedVolunteer);
     }
 
+    /**
+     * Returns the volunteer in the volunteer storage with the {@code name}.
+     */
+    public Volunteer getVolunteer(Name name) {
+        requireNonNull(name);
+        return volunteers.getVolunteer(name);
+    }
+
     /**
      * Removes {@code key} from this {@code VolunteerStorage}.
      * {@code key} must exist in the volunteer storage.
@@ -94,6 +132,17 @@ public class VolunteerStorage implements ReadOnlyVolunteerStorage {
         volunteers.remove(key);
     }
 
+    /**
+     * Returns the index of the skills of the volunteers in this {@code VolunteerStorage}. The index is built on the
+     * first call, and is kept in sync with the volunteer list from then on.
+     */
+    public SkillIndex getSkillIndex() {
+        if (skillIndex == null) {
+            skillIndex = new SkillIndex(volunteers.asUnmodifiableObservableList());
+        }
+        return skillIndex;
+    }
+
     //// util methods
 
     @Override
@@ -103,6 +152,11 @@ public class VolunteerStorage implements ReadOnlyVolunteerStorage {
                 .toString();
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public ObservableList<Volunteer> getVolunteerList() {
         return volunteers.asUnmodifiableObservableList();
@@ -3,6 +3,8 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents an Event's budget in the Event list.
  * Guarantees: immutable; is valid as declared in {@link #isValidBudget(String)}
@@ -17,6 +19,8 @@ public class Budget {
      */
     public static final String VALIDATION_REGEX = "^\\d+\\.\\d{2}$";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String budget;
 
     /**
@@ -38,7 +42,7 @@ public class Budget {
      * Returns true if a given string is a valid budget.
      */
     public static boolean isValidBudget(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -3,8 +3,10 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.time.DateTimeException;
 import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneOffset;
 
 /**
  * Represents an Event's date and time in the Event list.
@@ -22,17 +24,23 @@ public class DateTime {
      */
     public static final String VALIDATION_REGEX = "\\d{2}/\\d{2}/\\d{4} \\d{4}";
 
+    private static final int TIME_LENGTH = 4;
+
+    // returned by scan(String) for text that is not a valid date and time
+    private static final long INVALID = Long.MIN_VALUE;
+
     public final LocalDateTime dateAndTime;
 
+    // the number of minutes since the epoch, computed once as the key for ordering and comparing date and times
+    private final long epochMinute;
+
     /**
      * Constructs a {@code DateTime}.
      *
      * @param dateTime A valid dateTime.
      */
     public DateTime(String dateTime) {
-        requireNonNull(dateTime);
-        checkArgument(isValidDateTime(dateTime), MESSAGE_CONSTRAINTS);
-        this.dateAndTime = setDateTime(dateTime);
+        this(setDateTime(dateTime));
     }
 
     /**
@@ -43,70 +51,125 @@ public class DateTime {
     public DateTime(LocalDateTime dateTime) {
         requireNonNull(dateTime);
         this.dateAndTime = dateTime;
+        this.epochMinute = Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
     }
 
     /**
-     * Returns true if a given string is a valid budget.
+     * Returns true if a given string is a valid date and time.
      */
     public static boolean isValidDateTime(String dateAndTime) {
-        try {
-            requireNonNull(dateAndTime);
-            String trimmedDateAndTime = dateAndTime.trim();
-            String[] parts = dateAndTime.split(" ");
-
-            // If there isn't exactly two components in the dateAndTime, return false
-            if (parts.length != 2) {
-                return false;
-            }
+        return dateAndTime != null && scan(dateAndTime) != INVALID;
+    }
+
+    /**
+     * Returns the date and time represented by {@code dateTime}, which must be valid.
+     */
+    public static LocalDateTime setDateTime(String dateTime) {
+        requireNonNull(dateTime);
+        long fields = scan(dateTime);
+        checkArgument(fields != INVALID, MESSAGE_CONSTRAINTS);
+        return LocalDateTime.of((int) (fields >> 20), (int) (fields >> 16) & 0xF, (int) (fields >> 11) & 0x1F,
+                (int) (fields >> 6) & 0x1F, (int) fields & 0x3F);
+    }
 
-            String date = parts[0];
-            String time = parts[1];
+    /**
+     * Validates and parses {@code text} in the format D/M/Y HHMM in a single pass, without creating any objects.
+     * The day, month and year may have any number of digits, and the year may be negative.
+     *
+     * @return the year, month, day, hour and minute packed into a long, from the highest bits to the lowest, or
+     *     {@link #INVALID} if {@code text} is not a valid date and time.
+     */
+    private static long scan(String text) {
+        // the time is the last four characters, after the only space
+        int dateEnd = text.length() - TIME_LENGTH - 1;
+        if (dateEnd < 0 || text.charAt(dateEnd) != ' ') {
+            return INVALID;
+        }
+        int hour = scanTwoDigits(text, dateEnd + 1);
+        int minute = scanTwoDigits(text, dateEnd + 3);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return INVALID;
+        }
 
-            String[] dateParts = date.split("/");
-            // If the date does not have three components, return false
-            if (dateParts.length != 3) {
-                return false;
-            }
+        long day = scanNumber(text, 0, dateEnd);
+        if (day == INVALID || !isSlashAt(text, endOf(day), dateEnd)) {
+            return INVALID;
+        }
+        long month = scanNumber(text, endOf(day) + 1, dateEnd);
+        if (month == INVALID || !isSlashAt(text, endOf(month), dateEnd)) {
+            return INVALID;
+        }
+        int yearStart = endOf(month) + 1;
+        boolean isNegativeYear = yearStart < dateEnd && text.charAt(yearStart) == '-';
+        long year = scanNumber(text, isNegativeYear ? yearStart + 1 : yearStart, dateEnd);
+        if (year == INVALID || endOf(year) != dateEnd) {
+            return INVALID;
+        }
 
-            int day = Integer.parseInt(dateParts[0]);
-            int month = Integer.parseInt(dateParts[1]);
-            int year = Integer.parseInt(dateParts[2]);
+        int dayValue = valueOf(day);
+        int monthValue = valueOf(month);
+        int yearValue = isNegativeYear ? -valueOf(year) : valueOf(year);
+        if (monthValue < 1 || monthValue > 12 || yearValue < Year.MIN_VALUE || yearValue > Year.MAX_VALUE
+                || dayValue < 1 || dayValue > Month.of(monthValue).length(Year.isLeap(yearValue))) {
+            return INVALID;
+        }
+        return ((long) yearValue << 20) | (monthValue << 16) | (dayValue << 11) | (hour << 6) | minute;
+    }
 
-            // If time is not a four-digit number, return false
-            if (time.length() != 4) {
-                return false;
+    /**
+     * Returns the value of the digits of {@code text} from {@code start}, up to {@code end} at most, packed with the
+     * index after the last digit, or {@link #INVALID} if there are no digits or their value is too large for a year.
+     */
+    private static long scanNumber(String text, int start, int end) {
+        int index = start;
+        int value = 0;
+        while (index < end && isDigit(text.charAt(index))) {
+            value = value * 10 + (text.charAt(index) - '0');
+            if (value > Year.MAX_VALUE) {
+                return INVALID;
             }
+            index++;
+        }
+        if (index == start) {
+            return INVALID;
+        }
+        return ((long) value << 32) | index;
+    }
 
-            int hour = Integer.parseInt(time.substring(0, 2));
-            int min = Integer.parseInt(time.substring(2, 4));
-            LocalDateTime dateTime = LocalDateTime.of(year, month, day, hour, min);
-        } catch (NullPointerException e) { // If the argument is null
-            return false;
-        } catch (NumberFormatException e) { // If date and time values are not integers
-            return false;
-        } catch (DateTimeException e) { // If the date and time inputted are not valid
-            return false;
+    /**
+     * Returns the value of the two digits of {@code text} at {@code index}, or -1 if they are not both digits.
+     */
+    private static int scanTwoDigits(String text, int index) {
+        char tens = text.charAt(index);
+        char ones = text.charAt(index + 1);
+        if (!isDigit(tens) || !isDigit(ones)) {
+            return -1;
         }
-        return true;
+        return (tens - '0') * 10 + (ones - '0');
     }
 
-    public static LocalDateTime setDateTime(String dateTime) {
-        // Split the string into date and time components
-        String[] parts = dateTime.split(" ");
-        String date = parts[0];
-        String time = parts[1];
-
-        // Get the arguments for day, month and year
-        String[] dateParts = date.split("/");
-        int day = Integer.parseInt(dateParts[0]);
-        int month = Integer.parseInt(dateParts[1]);
-        int year = Integer.parseInt(dateParts[2]);
-
-        // Get the arguments for time
-        int hour = Integer.parseInt(time.substring(0, 2));
-        int min = Integer.parseInt(time.substring(2, 4));
-
-        return LocalDateTime.of(year, month, day, hour, min);
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isSlashAt(String text, int index, int end) {
+        return index < end && text.charAt(index) == '/';
+    }
+
+    private static int valueOf(long scannedNumber) {
+        return (int) (scannedNumber >>> 32);
+    }
+
+    private static int endOf(long scannedNumber) {
+        return (int) scannedNumber;
+    }
+
+    /**
+     * Returns the number of minutes from the epoch of 1970-01-01T00:00 to this date and time, as a key that orders
+     * date and times the same way as {@code LocalDateTime}.
+     */
+    public long toEpochMinute() {
+        return epochMinute;
     }
 
     @Override
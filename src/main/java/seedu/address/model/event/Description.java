@@ -3,6 +3,8 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents an Event's description.
  * Guarantees: immutable; is valid as declared in {@link #isValidDescription(String)}
@@ -18,6 +20,8 @@ public class Description {
      */
     public static final String VALIDATION_REGEX = "\\S.*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String description;
 
     /**
@@ -35,7 +39,7 @@ public class Description {
      * Returns true if a given string is a valid description.
      */
     public static boolean isValidDescription(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -33,6 +33,10 @@ public class Event implements Comparable<Event> {
     private final Set<Name> assignedVolunteers;
     private final MaxVolunteerSize maxVolunteerSize;
 
+    // cached hash code, computed on first use since every field is immutable and the sets are copied on construction;
+    // 0 if not computed yet
+    private int hash;
+
     /**
      * Every field must be present and not null.
      */
@@ -42,14 +46,14 @@ public class Event implements Comparable<Event> {
         requireAllNonNull(eventName, roles, startDate, endDate, location, description, materials, budget,
                 assignedVolunteers, maxVolunteerSize);
         this.eventName = eventName;
-        this.roles = roles;
+        this.roles = new HashSet<>(roles);
         this.startDate = startDate;
         this.endDate = endDate;
         this.location = location;
         this.description = description;
-        this.materials = materials;
+        this.materials = new HashSet<>(materials);
         this.budget = budget;
-        this.assignedVolunteers = assignedVolunteers;
+        this.assignedVolunteers = new HashSet<>(assignedVolunteers);
         this.maxVolunteerSize = maxVolunteerSize;
     }
 
@@ -171,6 +175,39 @@ public class Event implements Comparable<Event> {
         return new Event(eventName, newRoles, startDate, endDate,
                 location, description, materials, budget, newVolunteers, maxVolunteerSize);
     }
+    /**
+     * Recounts an assigned volunteer in the quantity of roles needed for the event, after their skills changed from
+     * {@code oldSkills} to {@code newSkills}. Only the roles matching a skill that was added or removed are changed.
+     * @param oldSkills The skills the volunteer was counted with.
+     * @param newSkills The skills the volunteer should be counted with.
+     * @return The event after the update, or this event if no role quantity changed.
+     */
+    public Event updateVolunteerSkills(Set<Skill> oldSkills, Set<Skill> newSkills) {
+        requireAllNonNull(oldSkills, newSkills);
+        Set<Role> newRoles = new HashSet<>();
+        boolean isChanged = false;
+
+        for (Role role : roles) {
+            Skill roleSkill = Skill.of(role.roleName);
+            boolean hadSkill = oldSkills.contains(roleSkill);
+            boolean hasSkill = newSkills.contains(roleSkill);
+            if (hadSkill == hasSkill) {
+                newRoles.add(role);
+            } else if (hasSkill) {
+                newRoles.add(role.addRoleManpower());
+                isChanged = true;
+            } else {
+                newRoles.add(role.currentQuantity > 0 ? role.decreaseRoleManpower() : role);
+                isChanged = true;
+            }
+        }
+
+        if (!isChanged) {
+            return this;
+        }
+        return new Event(eventName, newRoles, startDate, endDate,
+                location, description, materials, budget, assignedVolunteers, maxVolunteerSize);
+    }
     /**
      * Returns a set of volunteers from the {@code assignedVolunteers}.
      */
@@ -190,6 +227,21 @@ public class Event implements Comparable<Event> {
                 && otherEvent.getEventName().equals(getEventName());
     }
 
+    /**
+     * Returns true if this event clashes with {@code otherEvent}, that is, if either event starts while the other is
+     * ongoing, or if this event starts before and ends after the other.
+     */
+    public boolean isClashingWith(Event otherEvent) {
+        long start = startDate.toEpochMinute();
+        long end = endDate.toEpochMinute();
+        long otherStart = otherEvent.startDate.toEpochMinute();
+        long otherEnd = otherEvent.endDate.toEpochMinute();
+        boolean startDateTimeClashes = start >= otherStart && start < otherEnd;
+        boolean endDateTimeClashes = end > otherStart && end <= otherEnd;
+        boolean startsEarlierAndEndsLater = start < otherStart && end > otherEnd;
+        return startDateTimeClashes || endDateTimeClashes || startsEarlierAndEndsLater;
+    }
+
     /**
      * Compares two Event objects. This Event is lesser than the specified Event if start date is before the other.
      * If start dates are the same, this event is lesser than the specified Event if end date is before the other.
@@ -199,19 +251,11 @@ public class Event implements Comparable<Event> {
      */
     @Override
     public int compareTo(Event otherEvent) {
-        if (startDate.dateAndTime.isBefore(otherEvent.startDate.dateAndTime)) {
-            return -1;
-        } else if (startDate.dateAndTime.equals(otherEvent.startDate.dateAndTime)) {
-            if (endDate.dateAndTime.isBefore(otherEvent.endDate.dateAndTime)) {
-                return -1;
-            } else if (endDate.dateAndTime.isAfter(otherEvent.endDate.dateAndTime)) {
-                return 1;
-            } else {
-                return 0;
-            }
-        } else {
-            return 1;
+        int startComparison = Long.compare(startDate.toEpochMinute(), otherEvent.startDate.toEpochMinute());
+        if (startComparison != 0) {
+            return startComparison;
         }
+        return Long.compare(endDate.toEpochMinute(), otherEvent.endDate.toEpochMinute());
     }
 
     /**
@@ -230,6 +274,9 @@ public class Event implements Comparable<Event> {
         }
 
         Event otherEvent = (Event) other;
+        if (hash != 0 && otherEvent.hash != 0 && hash != otherEvent.hash) {
+            return false;
+        }
         return eventName.equals(otherEvent.eventName)
                 && roles.equals(otherEvent.roles)
                 && startDate.equals(otherEvent.startDate)
@@ -244,9 +291,12 @@ public class Event implements Comparable<Event> {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(eventName, roles, startDate, endDate, location, description, materials, budget,
-                assignedVolunteers, maxVolunteerSize);
+        if (hash == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            hash = Objects.hash(eventName, roles, startDate, endDate, location, description, materials, budget,
+                    assignedVolunteers, maxVolunteerSize);
+        }
+        return hash;
     }
 
     @Override
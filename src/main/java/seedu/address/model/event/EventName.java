@@ -3,6 +3,10 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.InternPool;
+
 /**
  * Represents a Event's name in the event storage.
  * Guarantees: immutable; is valid as declared in {@link #isValidEventName(String)}
@@ -19,8 +23,17 @@ public class EventName {
      */
     public static final String VALIDATION_REGEX = "(?=.*[A-Za-z0-9])^[A-Za-z0-9 ]+$";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    // the canonical EventName of each event name, so that the same event name is shared by everything referring to it
+    private static final InternPool<String, EventName> POOL =
+            new InternPool<>(EventName::new, name -> name.eventName);
+
     public final String eventName;
 
+    // the event name in lower case, computed once for case-insensitive matching
+    private final String normalizedName;
+
     /**
      * Constructs a {@code EventName}.
      *
@@ -30,13 +43,32 @@ public class EventName {
         requireNonNull(eventName);
         checkArgument(isValidEventName(eventName), MESSAGE_CONSTRAINTS);
         this.eventName = eventName;
+        this.normalizedName = eventName.toLowerCase();
+    }
+
+    /**
+     * Returns the canonical {@code EventName} of {@code eventName}, which is shared rather than constructed again if
+     * an equal {@code EventName} is already in use.
+     *
+     * @param eventName A valid event name.
+     */
+    public static EventName of(String eventName) {
+        requireNonNull(eventName);
+        return POOL.intern(eventName);
+    }
+
+    /**
+     * Returns the event name in lower case, for matching it without regard to case.
+     */
+    public String getNormalizedName() {
+        return normalizedName;
     }
 
     /**
      * Returns true if a given string is a valid event name.
      */
     public static boolean isValidEventName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
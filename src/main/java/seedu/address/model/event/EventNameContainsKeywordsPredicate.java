@@ -1,6 +1,11 @@
 package seedu.address.model.event;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
@@ -11,15 +16,79 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class EventNameContainsKeywordsPredicate implements Predicate<Event> {
     private final List<String> keywords;
+    // the keywords, trimmed and in lower case, prepared once instead of for every event tested
+    private final List<String> preppedKeywords;
 
+    /**
+     * Creates a predicate that matches the events whose names contain any of {@code keywords}.
+     * Every keyword must not be empty after trimming.
+     */
     public EventNameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.preppedKeywords = new ArrayList<>();
+        for (String keyword : keywords) {
+            String preppedKeyword = keyword.trim().toLowerCase();
+            checkArgument(!preppedKeyword.isEmpty(), "Word parameter cannot be empty");
+            preppedKeywords.add(preppedKeyword);
+        }
     }
 
+    /**
+     * Returns true if the name of {@code event} contains any of the keywords, ignoring case, as matched by
+     * {@link StringUtil#containsWordIgnoreCase(String, String)}, but using the lower-cased name stored in the event.
+     */
     @Override
     public boolean test(Event event) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(event.getEventName().eventName, keyword));
+        String eventName = event.getEventName().getNormalizedName();
+        for (String preppedKeyword : preppedKeywords) {
+            if (eventName.contains(preppedKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a predicate that matches the same events as this predicate, but only checks the names of the candidate
+     * events found in {@code eventNameIndex} instead of the name of every event. The events found are cached until
+     * the index changes.
+     */
+    public Predicate<Event> using(EventNameIndex eventNameIndex) {
+        return new IndexedPredicate(eventNameIndex);
+    }
+
+    private Set<EventName> findMatchingEvents(EventNameIndex eventNameIndex) {
+        Set<EventName> matches = new HashSet<>();
+        for (String preppedKeyword : preppedKeywords) {
+            for (EventName candidate : eventNameIndex.getCandidates(preppedKeyword)) {
+                if (candidate.getNormalizedName().contains(preppedKeyword)) {
+                    matches.add(candidate);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Matches events using the candidate events found in an {@code EventNameIndex}.
+     */
+    private class IndexedPredicate implements Predicate<Event> {
+        private final EventNameIndex eventNameIndex;
+        private long cachedVersion;
+        private Set<EventName> cachedMatches;
+
+        IndexedPredicate(EventNameIndex eventNameIndex) {
+            this.eventNameIndex = eventNameIndex;
+        }
+
+        @Override
+        public boolean test(Event event) {
+            if (cachedMatches == null || cachedVersion != eventNameIndex.getVersion()) {
+                cachedMatches = findMatchingEvents(eventNameIndex);
+                cachedVersion = eventNameIndex.getVersion();
+            }
+            return cachedMatches.contains(event.getEventName());
+        }
     }
 
     @Override
@@ -0,0 +1,128 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * An n-gram index over the lower-cased names of events, mapping every substring of up to {@value #GRAM_LENGTH}
+ * characters of a name to the events with that name, so that the events whose names may contain a keyword can be
+ * found without checking the name of every event.
+ *
+ * The index is kept in sync with an event list by listening to it. Its version changes whenever the list does, so
+ * results derived from the index can be cached until the next change.
+ */
+public class EventNameIndex implements ListChangeListener<Event> {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<EventName>> eventsByGram = new HashMap<>();
+    private long version;
+
+    /**
+     * Creates an {@code EventNameIndex} of the names of {@code events}.
+     */
+    public EventNameIndex(List<Event> events) {
+        requireNonNull(events);
+        events.forEach(this::add);
+    }
+
+    @Override
+    public void onChanged(Change<? extends Event> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+        version++;
+    }
+
+    /**
+     * Returns the number of changes made to the indexed list since this index was created.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the names of the events whose lower-cased names contain every n-gram of the lower-cased
+     * {@code keyword}. This includes every event whose name contains {@code keyword} ignoring case, but may also
+     * include events whose names only contain its n-grams separately, so the candidates still need to be checked.
+     */
+    public Set<EventName> getCandidates(String keyword) {
+        requireNonNull(keyword);
+        String preppedKeyword = keyword.trim().toLowerCase();
+        if (preppedKeyword.length() <= GRAM_LENGTH) {
+            return copyOf(eventsByGram.get(preppedKeyword));
+        }
+
+        // intersect the smallest posting sets first, so the candidates shrink as quickly as possible
+        List<Set<EventName>> postings = new ArrayList<>();
+        for (String gram : getGrams(preppedKeyword, GRAM_LENGTH)) {
+            Set<EventName> events = eventsByGram.get(gram);
+            if (events == null) {
+                return Collections.emptySet();
+            }
+            postings.add(events);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+        Set<EventName> candidates = new HashSet<>(postings.get(0));
+        for (int i = 1; i < postings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postings.get(i));
+        }
+        return candidates;
+    }
+
+    private static Set<EventName> copyOf(Set<EventName> events) {
+        return events == null ? Collections.emptySet() : new HashSet<>(events);
+    }
+
+    /**
+     * Returns the distinct substrings of {@code text} with {@code gramLength} characters.
+     */
+    private static Set<String> getGrams(String text, int gramLength) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + gramLength <= text.length(); i++) {
+            grams.add(text.substring(i, i + gramLength));
+        }
+        return grams;
+    }
+
+    /**
+     * Returns the distinct substrings of {@code name} with up to {@value #GRAM_LENGTH} characters, after it is
+     * lower-cased, so that keywords shorter than {@value #GRAM_LENGTH} characters can be looked up directly.
+     */
+    private static Set<String> getGramsOfName(EventName name) {
+        String preppedName = name.getNormalizedName();
+        Set<String> grams = new HashSet<>();
+        for (int gramLength = 1; gramLength <= GRAM_LENGTH; gramLength++) {
+            grams.addAll(getGrams(preppedName, gramLength));
+        }
+        return grams;
+    }
+
+    private void add(Event event) {
+        EventName name = event.getEventName();
+        for (String gram : getGramsOfName(name)) {
+            eventsByGram.computeIfAbsent(gram, unused -> new HashSet<>()).add(name);
+        }
+    }
+
+    private void remove(Event event) {
+        EventName name = event.getEventName();
+        for (String gram : getGramsOfName(name)) {
+            Set<EventName> names = eventsByGram.get(gram);
+            if (names != null && names.remove(name) && names.isEmpty()) {
+                eventsByGram.remove(gram);
+            }
+        }
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents an Event's location in the Event list.
  * Guarantees: immutable; is valid as declared in {@link #isValidLocation(String)}
@@ -17,6 +19,8 @@ public class Location {
      */
     public static final String VALIDATION_REGEX = "\\S.*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String location;
 
     /**
@@ -34,7 +38,7 @@ public class Location {
      * Returns true if a given string is a valid location.
      */
     public static boolean isValidLocation(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
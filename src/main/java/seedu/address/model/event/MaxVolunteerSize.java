@@ -3,6 +3,8 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Event's maximum volunteer size in the event storage.
  * Guarantees: immutable; is valid as declared in {@link #isValidMaxVolunteerSize(String)}
@@ -19,6 +21,8 @@ public class MaxVolunteerSize {
      */
     public static final String VALIDATION_REGEX = "[0-9]+";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final long maxVolunteerSize;
 
     /**
@@ -63,7 +67,7 @@ public class MaxVolunteerSize {
      */
     public static boolean isValidMaxVolunteerSize(String test) {
         try {
-            return test.matches(VALIDATION_REGEX)
+            return VALIDATION_PATTERN.matcher(test).matches()
                     && isValidMaxVolunteerSize(Long.parseLong(test));
         } catch (NumberFormatException nfe) {
             return false;
@@ -3,6 +3,10 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.InternPool;
+
 /**
  * Represents a Role in an event.
  * Guarantees: immutable; role is valid as declared in {@link #isValidRoleName(String)}
@@ -36,6 +40,14 @@ public class Role {
      */
     public static final String VALIDATION_REGEX_ROLE_NAME = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Pattern VALIDATION_PATTERN_UI = Pattern.compile(VALIDATION_REGEX_UI);
+    private static final Pattern VALIDATION_PATTERN_ROLE_NAME = Pattern.compile(VALIDATION_REGEX_ROLE_NAME);
+
+    // the canonical string of each role name, as the same names recur across events and every change in quantity
+    private static final InternPool<String, String> NAMES = InternPool.ofStrings();
+
     public final String roleName;
 
     public final int currentQuantity;
@@ -51,7 +63,7 @@ public class Role {
     public Role(String role) {
         requireNonNull(role);
         checkArgument(isValidRole(role), MESSAGE_CONSTRAINTS);
-        this.roleName = role.substring(role.indexOf(" ") + 1);
+        this.roleName = NAMES.intern(role.substring(role.indexOf(" ") + 1));
         this.currentQuantity = 0;
         this.requiredQuantity = Integer.parseInt(role.substring(0, role.indexOf(" ")));
     }
@@ -66,7 +78,7 @@ public class Role {
         requireNonNull(roleName);
         checkArgument(isValidRoleName(roleName), MESSAGE_CONSTRAINTS);
         checkArgument(isValidQuantity(requiredQuantity), MESSAGE_CONSTRAINTS);
-        this.roleName = roleName;
+        this.roleName = NAMES.intern(roleName);
         this.currentQuantity = 0;
         this.requiredQuantity = requiredQuantity;
     }
@@ -83,7 +95,7 @@ public class Role {
         checkArgument(isValidRoleName(roleName), MESSAGE_CONSTRAINTS);
         checkArgument(isValidQuantity(currentQuantity), MESSAGE_CONSTRAINTS);
         checkArgument(isValidQuantity(requiredQuantity), MESSAGE_CONSTRAINTS);
-        this.roleName = roleName;
+        this.roleName = NAMES.intern(roleName);
         this.currentQuantity = currentQuantity;
         this.requiredQuantity = requiredQuantity;
     }
@@ -145,8 +157,8 @@ public class Role {
      */
     public static boolean isValidRole(String test) {
         try {
-            int quantity = Integer.parseInt(test.split("\\s+")[0]);
-            return test.matches(VALIDATION_REGEX) && isValidQuantity(quantity);
+            int quantity = Integer.parseInt(WHITESPACE.split(test)[0]);
+            return VALIDATION_PATTERN.matcher(test).matches() && isValidQuantity(quantity);
         } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
             // if the role cannot be parsed into format [number] [role name]
             // or the number is not valid
@@ -159,9 +171,10 @@ public class Role {
      */
     public static boolean isValidUiString(String test) {
         try {
-            int currentQuantity = Integer.parseInt(test.split("\\s+")[0]);
-            int requiredQuantity = Integer.parseInt(test.split("\\s+")[2]);
-            return test.matches(VALIDATION_REGEX_UI)
+            String[] parts = WHITESPACE.split(test);
+            int currentQuantity = Integer.parseInt(parts[0]);
+            int requiredQuantity = Integer.parseInt(parts[2]);
+            return VALIDATION_PATTERN_UI.matcher(test).matches()
                     && isValidQuantity(currentQuantity)
                     && isValidQuantity(requiredQuantity);
         } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
@@ -175,7 +188,7 @@ public class Role {
      * Returns true if a given string is a valid role name.
      */
     public static boolean isValidRoleName(String test) {
-        return test.matches(VALIDATION_REGEX_ROLE_NAME);
+        return VALIDATION_PATTERN_ROLE_NAME.matcher(test).matches();
     }
 
     /**
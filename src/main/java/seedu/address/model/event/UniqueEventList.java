@@ -3,13 +3,20 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.event.exceptions.EventNotFoundException;
+import seedu.address.model.util.ListEdit;
 
 /**
  * A list of events that enforces uniqueness between its elements and does not allow nulls.
@@ -18,22 +25,41 @@ import seedu.address.model.event.exceptions.EventNotFoundException;
  * unique in terms of identity in the UniqueEventList. However, the removal of an event uses Event#equals(Object) so
  * as to ensure that the event with exactly the same fields will be removed.
  *
+ * Events are additionally indexed by their {@code EventName}, which is kept consistent with the backing list on every
+ * mutation, so that lookups by name and duplicate checks do not need to scan the whole list.
+ *
+ * The list is kept in ascending order of date and time, as defined by {@code Event#compareTo(Event)}, and events with
+ * the same date and time are ordered by name. As no two events share a name, this order is total, so the position of
+ * an event is found by binary search, both to insert it and to replace or remove it. Events are inserted at their
+ * position rather than appended and re-sorted, so that adding or editing an event only notifies listeners of the
+ * events that changed.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Event#isSameEvent(Event)
  */
 public class UniqueEventList implements Iterable<Event> {
 
+    // the order of the list, which breaks ties between events with the same date and time by their names
+    private static final Comparator<Event> LIST_ORDER = Comparator.<Event>naturalOrder()
+            .thenComparing(event -> event.getEventName().eventName);
+
     private final ObservableList<Event> internalList = FXCollections.observableArrayList();
     private final ObservableList<Event> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<EventName, Event> eventsByName = new HashMap<>();
 
     /**
      * Returns the event in the event storage with the {@code eventName}.
+     * @throws EventNotFoundException if there is no event with the {@code eventName}.
      */
     public Event getEvent(EventName eventName) {
         requireNonNull(eventName);
-        return internalList.stream().filter(e -> e.getEventName().equals(eventName)).findFirst().get();
+        Event event = eventsByName.get(eventName);
+        if (event == null) {
+            throw new EventNotFoundException();
+        }
+        return event;
     }
 
     /**
@@ -41,7 +67,8 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public boolean contains(Event toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEvent);
+        // events are the same event iff their event names are equal, see Event#isSameEvent(Event)
+        return eventsByName.containsKey(toCheck.getEventName());
     }
 
     /**
@@ -53,18 +80,20 @@ public class UniqueEventList implements Iterable<Event> {
         if (contains(toAdd)) {
             throw new DuplicateEventException();
         }
-        internalList.add(toAdd);
+        internalList.add(findInsertionIndex(toAdd), toAdd);
+        eventsByName.put(toAdd.getEventName(), toAdd);
     }
 
     /**
      * Replaces the event {@code target} in the list with {@code editedEvent}.
      * {@code target} must exist in the list.
      * The event identity of {@code editedEvent} must not be the same as another existing event in the list.
+     * If the date or time of the event is edited, {@code editedEvent} is moved to keep the list in order.
      */
     public void setEvent(Event target, Event editedEvent) {
         requireAllNonNull(target, editedEvent);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new EventNotFoundException();
         }
@@ -73,7 +102,14 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
 
-        internalList.set(index, editedEvent);
+        eventsByName.remove(target.getEventName());
+        eventsByName.put(editedEvent.getEventName(), editedEvent);
+        if (isInOrderAt(index, editedEvent)) {
+            internalList.set(index, editedEvent);
+        } else {
+            internalList.remove(index);
+            internalList.add(findInsertionIndex(editedEvent), editedEvent);
+        }
     }
 
     /**
@@ -82,13 +118,16 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void remove(Event toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new EventNotFoundException();
         }
+        internalList.remove(index);
+        eventsByName.remove(toRemove.getEventName());
     }
 
     /**
-     * Replaces the contents of this list with {@code events}.
+     * Replaces the contents of this list with {@code events}, in ascending order of their date and time, then name.
      * {@code events} must not contain duplicate events.
      */
     public void setEvents(List<Event> events) {
@@ -97,14 +136,41 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
 
+        List<Event> sortedEvents = new ArrayList<>(events);
+        sortedEvents.sort(LIST_ORDER);
+        internalList.setAll(sortedEvents);
+        eventsByName.clear();
+        for (Event event : events) {
+            eventsByName.put(event.getEventName(), event);
+        }
+    }
+
+    /**
+     * Replaces the contents of this list with {@code events}, a snapshot of events that is already known to be unique,
+     * such as a version restored by undo or redo. The events are not checked for duplicates again.
+     */
+    public void restoreEvents(List<Event> events) {
+        requireAllNonNull(events);
         internalList.setAll(events);
+        eventsByName.clear();
+        for (Event event : events) {
+            eventsByName.put(event.getEventName(), event);
+        }
     }
 
     /**
-     * Sorts this list in ascending order, by their date and time.
+     * Applies {@code edit}, which was recorded from this list, to undo or redo a change to the list.
+     * Only the events affected by the edit are changed, and they are not validated again.
      */
-    public void sortEvents() {
-        internalList.sort(Event::compareTo);
+    public void applyEdit(ListEdit<Event> edit) {
+        requireNonNull(edit);
+        edit.applyTo(internalList);
+        for (Event event : edit.getRemoved()) {
+            eventsByName.remove(event.getEventName());
+        }
+        for (Event event : edit.getAdded()) {
+            eventsByName.put(event.getEventName(), event);
+        }
     }
 
     /**
@@ -144,15 +210,64 @@ public class UniqueEventList implements Iterable<Event> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the index of {@code target} in the list, or -1 if the list does not contain an event equal to it.
+     * The only event that can be equal to {@code target} is the one at its position in the order of the list, which is
+     * found by binary search.
+     */
+    private int indexOf(Event target) {
+        int low = 0;
+        int high = internalList.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = LIST_ORDER.compare(internalList.get(mid), target);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return internalList.get(mid).equals(target) ? mid : -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index after every event in the list that is not after {@code event}, found by binary search, which
+     * is where {@code event} should be inserted to keep the list in order.
+     */
+    private int findInsertionIndex(Event event) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (LIST_ORDER.compare(internalList.get(mid), event) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns true if the list is still in order with {@code event} in place of the event at {@code index}.
+     */
+    private boolean isInOrderAt(int index, Event event) {
+        boolean isAfterPrevious = index == 0 || LIST_ORDER.compare(internalList.get(index - 1), event) <= 0;
+        boolean isBeforeNext = index == internalList.size() - 1
+                || LIST_ORDER.compare(event, internalList.get(index + 1)) <= 0;
+        return isAfterPrevious && isBeforeNext;
+    }
+
     /**
      * Returns true if {@code events} contains only unique events.
      */
     private boolean eventsAreUnique(List<Event> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).isSameEvent(events.get(j))) {
-                    return false;
-                }
+        Set<EventName> seenEventNames = new HashSet<>();
+        for (Event event : events) {
+            if (!seenEventNames.add(event.getEventName())) {
+                return false;
             }
         }
         return true;
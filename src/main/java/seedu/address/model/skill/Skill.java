@@ -3,6 +3,10 @@ package seedu.address.model.skill;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.InternPool;
+
 /**
  * Represents a Skill in the volunteer storage.
  * Guarantees: immutable; name is valid as declared in {@link #isValidSkillName(String)}
@@ -13,8 +17,17 @@ public class Skill {
     // Skill now accepts multiple words as a single Skill
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    // the canonical Skill of each skill name, so that the same skill name is shared by everything that refers to it
+    private static final InternPool<String, Skill> POOL = new InternPool<>(Skill::new, skill -> skill.skillName);
+
     public final String skillName;
 
+    // the skill name in lower case, and whether it is a single word, computed once for case-insensitive matching
+    private final String normalizedName;
+    private final boolean isSingleWord;
+
     /**
      * Constructs a {@code Skill}.
      *
@@ -24,13 +37,40 @@ public class Skill {
         requireNonNull(skillName);
         checkArgument(isValidSkillName(skillName), MESSAGE_CONSTRAINTS);
         this.skillName = skillName;
+        this.normalizedName = skillName.toLowerCase();
+        this.isSingleWord = normalizedName.split("\\s+").length == 1;
+    }
+
+    /**
+     * Returns the canonical {@code Skill} of {@code skillName}, which is shared rather than constructed again if an
+     * equal {@code Skill} is already in use.
+     *
+     * @param skillName A valid skill name.
+     */
+    public static Skill of(String skillName) {
+        requireNonNull(skillName);
+        return POOL.intern(skillName);
+    }
+
+    /**
+     * Returns the skill name in lower case, for matching it without regard to case.
+     */
+    public String getNormalizedName() {
+        return normalizedName;
+    }
+
+    /**
+     * Returns true if the skill name is a single word, so that it can be searched for as a keyword.
+     */
+    public boolean isSingleWord() {
+        return isSingleWord;
     }
 
     /**
      * Returns true if a given string is a valid skill name.
      */
     public static boolean isValidSkillName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
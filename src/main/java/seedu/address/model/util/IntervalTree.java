@@ -0,0 +1,214 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A set of values, each associated with a closed interval of {@code long}s, that can find the values whose intervals
+ * overlap a given interval in O(log n + k) time, where k is the number of values found.
+ *
+ * Implemented as an AVL tree ordered by the start of the intervals, where each node also stores the greatest end of
+ * the intervals in its subtree, so that subtrees without any overlapping interval can be skipped.
+ *
+ * @param <T> the type of the values in the tree.
+ */
+public class IntervalTree<T> {
+
+    private final Comparator<? super T> valueComparator;
+    private Node<T> root;
+    private int size;
+
+    /**
+     * Creates an empty {@code IntervalTree}, which orders values with the same interval using
+     * {@code valueComparator}.
+     */
+    public IntervalTree(Comparator<? super T> valueComparator) {
+        requireNonNull(valueComparator);
+        this.valueComparator = valueComparator;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Adds {@code value} with the interval from {@code start} to {@code end}, inclusive.
+     */
+    public void add(long start, long end, T value) {
+        requireNonNull(value);
+        checkArgument(start <= end, "The start of an interval cannot be after its end");
+        root = insert(root, new Node<>(start, end, value));
+        size++;
+    }
+
+    /**
+     * Removes {@code value} with the interval from {@code start} to {@code end}, if it is in the tree.
+     *
+     * @return true if the value was removed.
+     */
+    public boolean remove(long start, long end, T value) {
+        requireNonNull(value);
+        int oldSize = size;
+        root = delete(root, start, end, value);
+        return size < oldSize;
+    }
+
+    /**
+     * Returns the values whose intervals share at least one point with the interval from {@code start} to
+     * {@code end}, inclusive, in ascending order of the start of their intervals.
+     */
+    public List<T> findOverlapping(long start, long end) {
+        List<T> overlapping = new ArrayList<>();
+        collectOverlapping(root, start, end, overlapping);
+        return overlapping;
+    }
+
+    private void collectOverlapping(Node<T> node, long start, long end, List<T> overlapping) {
+        if (node == null || node.maxEnd < start) {
+            return;
+        }
+        collectOverlapping(node.left, start, end, overlapping);
+        if (node.start > end) {
+            // every interval in the right subtree starts after this one
+            return;
+        }
+        if (node.end >= start) {
+            overlapping.add(node.value);
+        }
+        collectOverlapping(node.right, start, end, overlapping);
+    }
+
+    private int compare(long start, long end, T value, Node<T> node) {
+        int comparison = Long.compare(start, node.start);
+        if (comparison == 0) {
+            comparison = Long.compare(end, node.end);
+        }
+        if (comparison == 0) {
+            comparison = valueComparator.compare(value, node.value);
+        }
+        return comparison;
+    }
+
+    private Node<T> insert(Node<T> node, Node<T> toInsert) {
+        if (node == null) {
+            return toInsert;
+        }
+        if (compare(toInsert.start, toInsert.end, toInsert.value, node) < 0) {
+            node.left = insert(node.left, toInsert);
+        } else {
+            node.right = insert(node.right, toInsert);
+        }
+        return rebalance(node);
+    }
+
+    private Node<T> delete(Node<T> node, long start, long end, T value) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = compare(start, end, value, node);
+        if (comparison < 0) {
+            node.left = delete(node.left, start, end, value);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, start, end, value);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node<T> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteMin(node.right);
+            successor.left = node.left;
+            return rebalance(successor);
+        }
+        return rebalance(node);
+    }
+
+    private Node<T> deleteMin(Node<T> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return rebalance(node);
+    }
+
+    private static <T> int height(Node<T> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static <T> long maxEnd(Node<T> node) {
+        return node == null ? Long.MIN_VALUE : node.maxEnd;
+    }
+
+    private static <T> void update(Node<T> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        node.maxEnd = Math.max(node.end, Math.max(maxEnd(node.left), maxEnd(node.right)));
+    }
+
+    private static <T> Node<T> rebalance(Node<T> node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static <T> Node<T> rotateRight(Node<T> node) {
+        Node<T> newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    private static <T> Node<T> rotateLeft(Node<T> node) {
+        Node<T> newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    private static class Node<T> {
+        private final long start;
+        private final long end;
+        private final T value;
+        private Node<T> left;
+        private Node<T> right;
+        private int height;
+        private long maxEnd;
+
+        Node(long start, long end, T value) {
+            this.start = start;
+            this.end = end;
+            this.value = value;
+            this.height = 1;
+            this.maxEnd = end;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.model.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * Records the changes made to an {@code ObservableList} it listens to as a sequence of {@code ListEdit}s, which can
+ * be replayed in order to redo the changes, or inverted and replayed in reverse order to undo them.
+ *
+ * @param <T> the type of elements in the observed list.
+ */
+public class ListChangeRecorder<T> implements ListChangeListener<T> {
+
+    private final List<ListEdit<T>> edits = new ArrayList<>();
+
+    @Override
+    public void onChanged(Change<? extends T> change) {
+        while (change.next()) {
+            // the lists recorded are kept in order by inserting at the right position, so they are never permuted
+            assert !change.wasPermutated() : "permutations are not recorded";
+            if (change.wasAdded() || change.wasRemoved()) {
+                // the indexes of every sub-change are relative to the list with the previous sub-changes applied
+                edits.add(ListEdit.ofReplacement(change.getFrom(), new ArrayList<T>(change.getRemoved()),
+                        new ArrayList<T>(change.getAddedSubList())));
+            }
+        }
+    }
+
+    /**
+     * Returns true if changes were recorded since the last call to {@link #drain()} or {@link #clear()}.
+     */
+    public boolean hasEdits() {
+        return !edits.isEmpty();
+    }
+
+    /**
+     * Returns the changes recorded since the last call to {@link #drain()} or {@link #clear()}, in the order they
+     * were made, and stops tracking them.
+     */
+    public List<ListEdit<T>> drain() {
+        List<ListEdit<T>> drained = List.copyOf(edits);
+        edits.clear();
+        return drained;
+    }
+
+    /**
+     * Discards the changes recorded so far.
+     */
+    public void clear() {
+        edits.clear();
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Represents a single positional change to a list: a contiguous range of elements being replaced by another (possibly
+ * empty) range.
+ * Guarantees: immutable.
+ *
+ * @param <T> the type of elements in the list.
+ */
+public final class ListEdit<T> {
+
+    private final int from;
+    private final List<T> removed;
+    private final List<T> added;
+
+    private ListEdit(int from, List<T> removed, List<T> added) {
+        this.from = from;
+        this.removed = removed;
+        this.added = added;
+    }
+
+    /**
+     * Creates an edit that replaces the elements {@code removed} starting at index {@code from} with {@code added}.
+     */
+    public static <T> ListEdit<T> ofReplacement(int from, List<T> removed, List<T> added) {
+        requireNonNull(removed);
+        requireNonNull(added);
+        return new ListEdit<>(from, Collections.unmodifiableList(removed), Collections.unmodifiableList(added));
+    }
+
+    /**
+     * Returns the edit that replaces the range between the longest common prefix and the longest common suffix of
+     * {@code oldList} and {@code newList}, or {@code Optional.empty()} if the lists are identical.
+     * Elements are compared by reference, so this is intended for lists of immutable objects.
+     */
+    public static <T> Optional<ListEdit<T>> between(List<T> oldList, List<? extends T> newList) {
+        requireNonNull(oldList);
+        requireNonNull(newList);
+        int minSize = Math.min(oldList.size(), newList.size());
+        int prefix = 0;
+        while (prefix < minSize && oldList.get(prefix) == newList.get(prefix)) {
+            prefix++;
+        }
+        if (prefix == oldList.size() && prefix == newList.size()) {
+            return Optional.empty();
+        }
+        int suffix = 0;
+        while (suffix < minSize - prefix
+                && oldList.get(oldList.size() - 1 - suffix) == newList.get(newList.size() - 1 - suffix)) {
+            suffix++;
+        }
+        return Optional.of(ofReplacement(prefix, new ArrayList<>(oldList.subList(prefix, oldList.size() - suffix)),
+                new ArrayList<T>(newList.subList(prefix, newList.size() - suffix))));
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    /**
+     * Returns the index after the last element affected by this edit, before the edit is applied.
+     */
+    public int getTo() {
+        return from + removed.size();
+    }
+
+    public List<T> getRemoved() {
+        return removed;
+    }
+
+    public List<T> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the edit that undoes this edit.
+     */
+    public ListEdit<T> inverse() {
+        return new ListEdit<>(from, added, removed);
+    }
+
+    /**
+     * Applies this edit to {@code list}, which must be in the state this edit was recorded from.
+     */
+    public void applyTo(List<T> list) {
+        requireNonNull(list);
+        if (removed.size() == added.size()) {
+            for (int i = 0; i < added.size(); i++) {
+                list.set(from + i, added.get(i));
+            }
+        } else {
+            list.subList(from, getTo()).clear();
+            list.addAll(from, added);
+        }
+    }
+}
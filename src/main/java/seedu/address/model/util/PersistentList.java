@@ -0,0 +1,369 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list that shares its structure with the lists it is derived from.
+ * The elements are stored in a size-augmented AVL tree, and every modification copies only the O(log n) nodes on the
+ * path to the modified position, so unchanged parts of the tree are shared between versions of the list.
+ *
+ * The {@code List} mutators inherited from {@code AbstractList} are not supported; use {@link #withSet(int, Object)},
+ * {@link #withInserted(int, Object)}, {@link #withRemoved(int)}, {@link #withEdits(List)} or
+ * {@link #withContentsOf(List)} instead, which return a new list and leave this list unchanged.
+ *
+ * @param <T> the type of elements in this list.
+ */
+public final class PersistentList<T> extends AbstractList<T> {
+
+    /** Estimated size of a single tree node in bytes, assuming a 64-bit JVM with compressed object pointers. */
+    public static final int ESTIMATED_NODE_BYTES = 32;
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null, 0, 0);
+
+    private final Node<T> root;
+    private final int allocatedNodes;
+    private final int introducedElements;
+
+    private PersistentList(Node<T> root, int allocatedNodes, int introducedElements) {
+        this.root = root;
+        this.allocatedNodes = allocatedNodes;
+        this.introducedElements = introducedElements;
+    }
+
+    /**
+     * Returns an empty {@code PersistentList}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a {@code PersistentList} containing the elements of {@code items}, in the same order.
+     */
+    public static <T> PersistentList<T> of(List<? extends T> items) {
+        requireNonNull(items);
+        Object[] elements = items.toArray();
+        return new PersistentList<>(build(elements, 0, elements.length), elements.length, elements.length);
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndex(index, size());
+        return valueAt(root, index);
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new InOrderIterator<>(root, false);
+    }
+
+    /**
+     * Returns the estimated number of bytes used by this list and its elements, counting shared nodes and elements.
+     *
+     * @param estimatedElementBytes the estimated size of a single element in bytes.
+     */
+    public long getEstimatedSizeInBytes(long estimatedElementBytes) {
+        return size() * (ESTIMATED_NODE_BYTES + estimatedElementBytes);
+    }
+
+    /**
+     * Returns the estimated number of bytes that were allocated when this list was derived from the list it was
+     * created from, i.e. the memory this list does not share with that list. This includes the elements that were
+     * added to this list or replaced in it, as this list keeps them alive once later lists no longer contain them.
+     *
+     * @param estimatedElementBytes the estimated size of a single element in bytes.
+     */
+    public long getEstimatedAllocatedBytes(long estimatedElementBytes) {
+        return (long) allocatedNodes * ESTIMATED_NODE_BYTES + introducedElements * estimatedElementBytes;
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<T> withSet(int index, T element) {
+        checkIndex(index, size());
+        Allocator allocator = new Allocator();
+        return new PersistentList<>(allocator.set(root, index, element), allocator.count, allocator.introduced);
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}, shifting subsequent elements to the right.
+     */
+    public PersistentList<T> withInserted(int index, T element) {
+        checkIndex(index, size() + 1);
+        Allocator allocator = new Allocator();
+        return new PersistentList<>(allocator.insert(root, index, element), allocator.count, allocator.introduced);
+    }
+
+    /**
+     * Returns a list with the element at {@code index} removed, shifting subsequent elements to the left.
+     */
+    public PersistentList<T> withRemoved(int index) {
+        checkIndex(index, size());
+        Allocator allocator = new Allocator();
+        return new PersistentList<>(allocator.remove(root, index), allocator.count, allocator.introduced);
+    }
+
+    /**
+     * Returns a list with {@code edits} applied in order, where every edit must be recorded from the list with the
+     * previous edits applied.
+     * Only the positions the edits change are visited, so an edit replacing, inserting or removing k elements
+     * allocates O(k log n) new nodes, however far apart the edits are.
+     */
+    public PersistentList<T> withEdits(List<ListEdit<T>> edits) {
+        requireNonNull(edits);
+        Allocator allocator = new Allocator();
+        Node<T> result = root;
+        for (ListEdit<T> edit : edits) {
+            checkIndex(edit.getFrom(), sizeOf(result) + 1);
+            checkIndex(edit.getTo(), sizeOf(result) + 1);
+            List<T> added = edit.getAdded();
+            int removedCount = edit.getRemoved().size();
+            int overlap = Math.min(removedCount, added.size());
+            for (int i = 0; i < overlap; i++) {
+                result = allocator.set(result, edit.getFrom() + i, added.get(i));
+            }
+            for (int i = overlap; i < added.size(); i++) {
+                result = allocator.insert(result, edit.getFrom() + i, added.get(i));
+            }
+            for (int i = overlap; i < removedCount; i++) {
+                result = allocator.remove(result, edit.getFrom() + overlap);
+            }
+        }
+        return new PersistentList<>(result, allocator.count, allocator.introduced);
+    }
+
+    /**
+     * Returns a list with the same elements as {@code items}, sharing as much structure with this list as possible.
+     * Elements are compared by reference, so this is intended for lists of immutable objects, where an unchanged
+     * element is the same instance in both lists.
+     * Only the range between the longest common prefix and the longest common suffix is rewritten, so when
+     * {@code items} differs from this list in k contiguous positions, O(k log n) new nodes are allocated.
+     */
+    public PersistentList<T> withContentsOf(List<? extends T> items) {
+        requireNonNull(items);
+        int oldSize = size();
+        int newSize = items.size();
+        int minSize = Math.min(oldSize, newSize);
+
+        int prefix = 0;
+        Iterator<T> forward = new InOrderIterator<>(root, false);
+        while (prefix < minSize && forward.next() == items.get(prefix)) {
+            prefix++;
+        }
+        if (prefix == oldSize && prefix == newSize) {
+            return this;
+        }
+
+        int suffix = 0;
+        Iterator<T> backward = new InOrderIterator<>(root, true);
+        while (suffix < minSize - prefix && backward.next() == items.get(newSize - 1 - suffix)) {
+            suffix++;
+        }
+
+        int oldChanged = oldSize - prefix - suffix;
+        int newChanged = newSize - prefix - suffix;
+        Allocator allocator = new Allocator();
+        Node<T> result = root;
+        int overlap = Math.min(oldChanged, newChanged);
+        for (int i = prefix; i < prefix + overlap; i++) {
+            result = allocator.set(result, i, items.get(i));
+        }
+        for (int i = prefix + overlap; i < prefix + newChanged; i++) {
+            result = allocator.insert(result, i, items.get(i));
+        }
+        for (int i = prefix + overlap; i < prefix + oldChanged; i++) {
+            result = allocator.remove(result, prefix + overlap);
+        }
+        return new PersistentList<>(result, allocator.count, allocator.introduced);
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    //// tree operations
+
+    /**
+     * A node of the AVL tree. Nodes are never modified after they are created.
+     */
+    private static final class Node<T> {
+        private final T value;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int height;
+        private final int size;
+
+        private Node(T value, Node<T> left, Node<T> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+        }
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T> build(Object[] elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>((T) elements[mid], build(elements, from, mid), build(elements, mid + 1, to));
+    }
+
+    private static <T> T valueAt(Node<T> node, int index) {
+        Node<T> current = node;
+        int remaining = index;
+        while (true) {
+            int leftSize = sizeOf(current.left);
+            if (remaining < leftSize) {
+                current = current.left;
+            } else if (remaining == leftSize) {
+                return current.value;
+            } else {
+                remaining -= leftSize + 1;
+                current = current.right;
+            }
+        }
+    }
+
+    /**
+     * Performs path-copying modifications of a tree, counting the number of nodes it allocates and the number of
+     * elements it puts into the tree.
+     */
+    private static final class Allocator {
+        private int count;
+        private int introduced;
+
+        private <T> Node<T> node(T value, Node<T> left, Node<T> right) {
+            count++;
+            return new Node<>(value, left, right);
+        }
+
+        private <T> Node<T> set(Node<T> node, int index, T element) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                return node(node.value, set(node.left, index, element), node.right);
+            } else if (index == leftSize) {
+                if (node.value == element) {
+                    return node;
+                }
+                introduced++;
+                return node(element, node.left, node.right);
+            } else {
+                return node(node.value, node.left, set(node.right, index - leftSize - 1, element));
+            }
+        }
+
+        private <T> Node<T> insert(Node<T> node, int index, T element) {
+            if (node == null) {
+                introduced++;
+                return node(element, null, null);
+            }
+            int leftSize = sizeOf(node.left);
+            if (index <= leftSize) {
+                return balance(node.value, insert(node.left, index, element), node.right);
+            } else {
+                return balance(node.value, node.left, insert(node.right, index - leftSize - 1, element));
+            }
+        }
+
+        private <T> Node<T> remove(Node<T> node, int index) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                return balance(node.value, remove(node.left, index), node.right);
+            } else if (index > leftSize) {
+                return balance(node.value, node.left, remove(node.right, index - leftSize - 1));
+            } else if (node.left == null) {
+                return node.right;
+            } else if (node.right == null) {
+                return node.left;
+            } else {
+                return balance(valueAt(node.right, 0), node.left, remove(node.right, 0));
+            }
+        }
+
+        /**
+         * Creates a node from {@code value}, {@code left} and {@code right}, rotating if the heights of the two
+         * subtrees differ by more than one.
+         */
+        private <T> Node<T> balance(T value, Node<T> left, Node<T> right) {
+            int leftHeight = heightOf(left);
+            int rightHeight = heightOf(right);
+            if (leftHeight > rightHeight + 1) {
+                if (heightOf(left.left) >= heightOf(left.right)) {
+                    return node(left.value, left.left, node(value, left.right, right));
+                }
+                Node<T> pivot = left.right;
+                return node(pivot.value, node(left.value, left.left, pivot.left),
+                        node(value, pivot.right, right));
+            } else if (rightHeight > leftHeight + 1) {
+                if (heightOf(right.right) >= heightOf(right.left)) {
+                    return node(right.value, node(value, left, right.left), right.right);
+                }
+                Node<T> pivot = right.left;
+                return node(pivot.value, node(value, left, pivot.left),
+                        node(right.value, pivot.right, right.right));
+            }
+            return node(value, left, right);
+        }
+    }
+
+    /**
+     * Iterates over the elements of a tree in order, or in reverse order, using O(log n) extra space.
+     */
+    private static final class InOrderIterator<T> implements Iterator<T> {
+        private final Deque<Node<T>> stack = new ArrayDeque<>();
+        private final boolean isReversed;
+
+        private InOrderIterator(Node<T> root, boolean isReversed) {
+            this.isReversed = isReversed;
+            pushPath(root);
+        }
+
+        private void pushPath(Node<T> node) {
+            for (Node<T> current = node; current != null; current = isReversed ? current.right : current.left) {
+                stack.push(current);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (stack.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<T> node = stack.pop();
+            pushPath(isReversed ? node.left : node.right);
+            return node.value;
+        }
+    }
+}
@@ -3,6 +3,10 @@ package seedu.address.model.volunteer;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.InternPool;
+
 /**
  * Represents a Volunteer's name in the volunteer storage.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,8 +22,16 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    // the canonical Name of each name, so that the same name is shared by everything that refers to it
+    private static final InternPool<String, Name> POOL = new InternPool<>(Name::new, name -> name.fullName);
+
     public final String fullName;
 
+    // the name in lower case, computed once for case-insensitive matching
+    private final String normalizedName;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,13 +41,32 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        normalizedName = name.toLowerCase();
+    }
+
+    /**
+     * Returns the canonical {@code Name} of {@code name}, which is shared rather than constructed again if an equal
+     * {@code Name} is already in use.
+     *
+     * @param name A valid name.
+     */
+    public static Name of(String name) {
+        requireNonNull(name);
+        return POOL.intern(name);
+    }
+
+    /**
+     * Returns the name in lower case, for matching it without regard to case.
+     */
+    public String getNormalizedName() {
+        return normalizedName;
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
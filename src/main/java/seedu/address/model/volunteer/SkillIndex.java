@@ -0,0 +1,87 @@
+package seedu.address.model.volunteer;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.skill.Skill;
+
+/**
+ * An inverted index from the case-normalized name of each skill to the names of the volunteers with that skill, so
+ * that the volunteers with a skill can be found without checking the skills of every volunteer.
+ *
+ * The index is kept in sync with a volunteer list by listening to it. Its version changes whenever the list does, so
+ * results derived from the index can be cached until the next change.
+ */
+public class SkillIndex implements ListChangeListener<Volunteer> {
+
+    private final Map<String, Set<Name>> volunteersBySkill = new HashMap<>();
+    private long version;
+
+    /**
+     * Creates a {@code SkillIndex} of the skills of {@code volunteers}.
+     */
+    public SkillIndex(List<Volunteer> volunteers) {
+        requireNonNull(volunteers);
+        volunteers.forEach(this::add);
+    }
+
+    @Override
+    public void onChanged(Change<? extends Volunteer> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+        version++;
+    }
+
+    /**
+     * Returns the number of changes made to the indexed list since this index was created.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the names of the volunteers with a skill whose name contains the name of {@code skill}, ignoring case,
+     * as matched by {@code StringUtil#containsSkillIgnoreCase(Set, Skill)}.
+     * Only the distinct skill names are checked, rather than the skills of every volunteer.
+     */
+    public Set<Name> getVolunteersWithSkill(Skill skill) {
+        requireNonNull(skill);
+        String keyword = normalize(skill);
+        Set<Name> exactMatches = volunteersBySkill.get(keyword);
+        Set<Name> matches = exactMatches == null ? new HashSet<>() : new HashSet<>(exactMatches);
+        for (Map.Entry<String, Set<Name>> entry : volunteersBySkill.entrySet()) {
+            if (entry.getKey().length() > keyword.length() && entry.getKey().contains(keyword)) {
+                matches.addAll(entry.getValue());
+            }
+        }
+        return matches;
+    }
+
+    private static String normalize(Skill skill) {
+        return skill.getNormalizedName();
+    }
+
+    private void add(Volunteer volunteer) {
+        for (Skill skill : volunteer.getSkills()) {
+            volunteersBySkill.computeIfAbsent(normalize(skill), unused -> new HashSet<>()).add(volunteer.getName());
+        }
+    }
+
+    private void remove(Volunteer volunteer) {
+        for (Skill skill : volunteer.getSkills()) {
+            String key = normalize(skill);
+            Set<Name> names = volunteersBySkill.get(key);
+            if (names != null && names.remove(volunteer.getName()) && names.isEmpty()) {
+                volunteersBySkill.remove(key);
+            }
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package seedu.address.model.volunteer;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
@@ -14,15 +17,24 @@ import seedu.address.model.skill.Skill;
 public class SkillNameContainsKeywordsPredicate implements Predicate<Volunteer> {
     private final List<Name> names;
     private final List<Skill> skills;
+    // the names to look for, trimmed and in lower case, prepared once instead of for every volunteer tested
+    private final List<String> nameKeywords;
 
     /**
      * Constructor that takes in names and skills
      * @param names list of names
-     * @param skills list of skills
+     * @param skills list of skills, each of which must be a single word
      */
     public SkillNameContainsKeywordsPredicate(List<Name> names, List<Skill> skills) {
+        for (Skill skill : skills) {
+            checkArgument(skill.isSingleWord(), "Skill parameter should be a single word");
+        }
         this.names = names;
         this.skills = skills;
+        this.nameKeywords = new ArrayList<>();
+        for (Name name : names) {
+            nameKeywords.add(name.getNormalizedName().trim());
+        }
     }
 
     /**
@@ -30,8 +42,7 @@ public class SkillNameContainsKeywordsPredicate implements Predicate<Volunteer>
      * @param names list of names
      */
     public SkillNameContainsKeywordsPredicate(List<Name> names) {
-        this.names = names;
-        this.skills = new ArrayList<>();
+        this(names, new ArrayList<>());
     }
 
     @Override
@@ -40,30 +51,119 @@ public class SkillNameContainsKeywordsPredicate implements Predicate<Volunteer>
             assert !skills.isEmpty() : "the check for both skills and names not being empty is done in"
                     + " parse method of VolunteerFindCommandParser class";
             /*
-             why allMatch here compared to anyMatch below?
+             why all skills here compared to any skill below?
               if you have a command e.g. vfind s/chef s/boxer, then you want to find volunteers that are both chef
               *and* boxer. Whereas if you have command e.g. vfind n/alice n/bob, you want to find volunteers whose names
                are *either* alice or bob
              */
-            return skills.stream()
-                    .allMatch(skill ->
-                            StringUtil.containsSkillIgnoreCase(volunteer.getSkills(), skill));
+            Set<Skill> volunteerSkills = volunteer.getSkills();
+            for (Skill skill : skills) {
+                if (!hasSkill(volunteerSkills, skill)) {
+                    return false;
+                }
+            }
+            return true;
         }
         if (skills.isEmpty()) {
-            return names.stream()
-                    .anyMatch(name ->
-                            StringUtil.containsWordIgnoreCase(volunteer.getName().fullName, name.fullName));
+            return hasMatchingName(volunteer);
         }
 
         assert !names.isEmpty() && !skills.isEmpty() : "names and skills should not be an empty list";
 
-        return names.stream()
-                .anyMatch(name ->
-                        StringUtil.containsWordIgnoreCase(volunteer.getName().fullName, name.fullName))
-                &&
-                skills.stream()
-                        .anyMatch(skill ->
-                                StringUtil.containsSkillIgnoreCase(volunteer.getSkills(), skill));
+        if (!hasMatchingName(volunteer)) {
+            return false;
+        }
+        Set<Skill> volunteerSkills = volunteer.getSkills();
+        for (Skill skill : skills) {
+            if (hasSkill(volunteerSkills, skill)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if any of {@code volunteerSkills} contains {@code skill}, ignoring case, as matched by
+     * {@link StringUtil#containsSkillIgnoreCase(Set, Skill)}, but using the lower-cased names stored in the skills.
+     */
+    private static boolean hasSkill(Set<Skill> volunteerSkills, Skill skill) {
+        String skillKeyword = skill.getNormalizedName();
+        for (Skill volunteerSkill : volunteerSkills) {
+            if (volunteerSkill.getNormalizedName().contains(skillKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a predicate that matches the same volunteers as this predicate, but looks up the volunteers with the
+     * skills in {@code skillIndex} instead of checking the skills of each volunteer. The volunteers found are cached
+     * until the index changes.
+     */
+    public Predicate<Volunteer> using(SkillIndex skillIndex) {
+        if (skills.isEmpty()) {
+            return this;
+        }
+        return new IndexedPredicate(skillIndex);
+    }
+
+    /**
+     * Returns the names of the volunteers that have all the skills of this predicate if no names are given, or any
+     * of them otherwise, mirroring {@link #test(Volunteer)}.
+     */
+    private Set<Name> findVolunteersWithSkills(SkillIndex skillIndex) {
+        Set<Name> matches = null;
+        for (Skill skill : skills) {
+            Set<Name> volunteersWithSkill = skillIndex.getVolunteersWithSkill(skill);
+            if (matches == null) {
+                matches = volunteersWithSkill;
+            } else if (names.isEmpty()) {
+                matches.retainAll(volunteersWithSkill);
+            } else {
+                matches.addAll(volunteersWithSkill);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns true if there are no names to look for, or if the name of {@code volunteer} contains any of them,
+     * ignoring case, as matched by {@link StringUtil#containsWordIgnoreCase(String, String)}.
+     */
+    private boolean hasMatchingName(Volunteer volunteer) {
+        if (nameKeywords.isEmpty()) {
+            return true;
+        }
+        String volunteerName = volunteer.getName().getNormalizedName();
+        for (String nameKeyword : nameKeywords) {
+            if (volunteerName.contains(nameKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Matches volunteers using the volunteers with the skills found in a {@code SkillIndex}.
+     */
+    private class IndexedPredicate implements Predicate<Volunteer> {
+        private final SkillIndex skillIndex;
+        private long cachedVersion;
+        private Set<Name> cachedMatches;
+
+        IndexedPredicate(SkillIndex skillIndex) {
+            this.skillIndex = skillIndex;
+        }
+
+        @Override
+        public boolean test(Volunteer volunteer) {
+            if (cachedMatches == null || cachedVersion != skillIndex.getVersion()) {
+                cachedMatches = findVolunteersWithSkills(skillIndex);
+                cachedVersion = skillIndex.getVersion();
+            }
+            return cachedMatches.contains(volunteer.getName()) && hasMatchingName(volunteer);
+        }
     }
 
     @Override
@@ -3,11 +3,16 @@ package seedu.address.model.volunteer;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.util.ListEdit;
 import seedu.address.model.volunteer.exceptions.DuplicateVolunteerException;
 import seedu.address.model.volunteer.exceptions.VolunteerNotFoundException;
 
@@ -19,6 +24,12 @@ import seedu.address.model.volunteer.exceptions.VolunteerNotFoundException;
  * a volunteer uses Volunteer#equals(Object) so as to ensure that the volunteer with exactly the same fields will be
  * removed.
  *
+ * Volunteers are additionally indexed by their {@code Name}, which is kept consistent with the backing list on every
+ * mutation, so that identity checks do not need to scan the whole list. The position of every volunteer in the backing
+ * list is indexed by name as well, so that a volunteer can be replaced or removed without searching the list for an
+ * equal volunteer. Removing a volunteer only updates the positions of the volunteers after it, and undoing or redoing
+ * a change only updates the positions of the volunteers it affected.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Volunteer#isSameVolunteer(Volunteer)
@@ -28,13 +39,29 @@ public class UniqueVolunteerList implements Iterable<Volunteer> {
     private final ObservableList<Volunteer> internalList = FXCollections.observableArrayList();
     private final ObservableList<Volunteer> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Volunteer> volunteersByName = new HashMap<>();
+    private final Map<Name, Integer> positionsByName = new HashMap<>();
+
+    /**
+     * Returns the volunteer in the list with the {@code name}.
+     * @throws VolunteerNotFoundException if there is no volunteer with the {@code name}.
+     */
+    public Volunteer getVolunteer(Name name) {
+        requireNonNull(name);
+        Volunteer volunteer = volunteersByName.get(name);
+        if (volunteer == null) {
+            throw new VolunteerNotFoundException();
+        }
+        return volunteer;
+    }
 
     /**
      * Returns true if the list contains an equivalent volunteer as the given argument.
      */
     public boolean contains(Volunteer toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameVolunteer);
+        // volunteers are the same volunteer iff their names are equal, see Volunteer#isSameVolunteer(Volunteer)
+        return volunteersByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -47,6 +74,8 @@ public class UniqueVolunteerList implements Iterable<Volunteer> {
             throw new DuplicateVolunteerException();
         }
         internalList.add(toAdd);
+        volunteersByName.put(toAdd.getName(), toAdd);
+        positionsByName.put(toAdd.getName(), internalList.size() - 1);
     }
 
     /**
@@ -57,7 +86,7 @@ public class UniqueVolunteerList implements Iterable<Volunteer> {
     public void setVolunteer(Volunteer target, Volunteer editedVolunteer) {
         requireAllNonNull(target, editedVolunteer);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new VolunteerNotFoundException();
         }
@@ -67,6 +96,10 @@ public class UniqueVolunteerList implements Iterable<Volunteer> {
         }
 
         internalList.set(index, editedVolunteer);
+        volunteersByName.remove(target.getName());
+        volunteersByName.put(editedVolunteer.getName(), editedVolunteer);
+        positionsByName.remove(target.getName());
+        positionsByName.put(editedVolunteer.getName(), index);
     }
 
     /**
@@ -75,14 +108,23 @@ public class UniqueVolunteerList implements Iterable<Volunteer> {
      */
     public void remove(Volunteer toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new VolunteerNotFoundException();
         }
+        internalList.remove(index);
+        volunteersByName.remove(toRemove.getName());
+        positionsByName.remove(toRemove.getName());
+        updatePositionsFrom(index);
     }
 
     public void setVolunteers(UniqueVolunteerList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        volunteersByName.clear();
+        volunteersByName.putAll(replacement.volunteersByName);
+        positionsByName.clear();
+        positionsByName.putAll(replacement.positionsByName);
     }
 
     /**
@@ -96,6 +138,53 @@ public class UniqueVolunteerList implements Iterable<Volunteer> {
         }
 
         internalList.setAll(volunteers);
+        volunteersByName.clear();
+        for (Volunteer volunteer : volunteers) {
+            volunteersByName.put(volunteer.getName(), volunteer);
+        }
+        positionsByName.clear();
+        updatePositionsFrom(0);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code volunteers}, a snapshot of volunteers that is already known to be
+     * unique, such as a version restored by undo or redo. The volunteers are not checked for duplicates again.
+     */
+    public void restoreVolunteers(List<Volunteer> volunteers) {
+        requireAllNonNull(volunteers);
+        internalList.setAll(volunteers);
+        volunteersByName.clear();
+        for (Volunteer volunteer : volunteers) {
+            volunteersByName.put(volunteer.getName(), volunteer);
+        }
+        positionsByName.clear();
+        updatePositionsFrom(0);
+    }
+
+    /**
+     * Applies {@code edit}, which was recorded from this list, to undo or redo a change to the list.
+     * Only the volunteers affected by the edit are changed, and they are not validated again.
+     */
+    public void applyEdit(ListEdit<Volunteer> edit) {
+        requireNonNull(edit);
+        edit.applyTo(internalList);
+        for (Volunteer volunteer : edit.getRemoved()) {
+            volunteersByName.remove(volunteer.getName());
+        }
+        for (Volunteer volunteer : edit.getRemoved()) {
+            positionsByName.remove(volunteer.getName());
+        }
+        for (Volunteer volunteer : edit.getAdded()) {
+            volunteersByName.put(volunteer.getName(), volunteer);
+        }
+        if (edit.getRemoved().size() == edit.getAdded().size()) {
+            // the volunteers after the edited range keep their positions
+            for (int i = edit.getFrom(); i < edit.getFrom() + edit.getAdded().size(); i++) {
+                positionsByName.put(internalList.get(i).getName(), i);
+            }
+        } else {
+            updatePositionsFrom(edit.getFrom());
+        }
     }
 
     /**
@@ -135,15 +224,36 @@ public class UniqueVolunteerList implements Iterable<Volunteer> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the index of {@code target} in the list, or -1 if the list does not contain a volunteer equal to it.
+     * The position is looked up by name, so only the volunteer at that position needs to be compared.
+     */
+    private int indexOf(Volunteer target) {
+        Integer index = positionsByName.get(target.getName());
+        if (index == null || !internalList.get(index).equals(target)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Records the positions of the volunteers from {@code fromIndex} to the end of the list, which are the only
+     * positions that change when volunteers are inserted or removed at {@code fromIndex}.
+     */
+    private void updatePositionsFrom(int fromIndex) {
+        for (int i = fromIndex; i < internalList.size(); i++) {
+            positionsByName.put(internalList.get(i).getName(), i);
+        }
+    }
+
     /**
      * Returns true if {@code volunteers} contains only unique volunteers.
      */
     private boolean volunteersAreUnique(List<Volunteer> volunteers) {
-        for (int i = 0; i < volunteers.size() - 1; i++) {
-            for (int j = i + 1; j < volunteers.size(); j++) {
-                if (volunteers.get(i).isSameVolunteer(volunteers.get(j))) {
-                    return false;
-                }
+        Set<Name> seenNames = new HashSet<>();
+        for (Volunteer volunteer : volunteers) {
+            if (!seenNames.add(volunteer.getName())) {
+                return false;
             }
         }
         return true;
@@ -27,6 +27,10 @@ public class Volunteer {
     private final Set<Skill> skills = new HashSet<>();
     private final Set<EventName> assignedEvents = new HashSet<>();
 
+    // cached hash code, computed on first use since every field is immutable and the sets are copied on construction;
+    // 0 if not computed yet
+    private int hash;
+
     /**
      * Every field must be present and not null.
      */
@@ -123,6 +127,9 @@ public class Volunteer {
         }
 
         Volunteer otherVolunteer = (Volunteer) other;
+        if (hash != 0 && otherVolunteer.hash != 0 && hash != otherVolunteer.hash) {
+            return false;
+        }
         return name.equals(otherVolunteer.name)
                 && phone.equals(otherVolunteer.phone)
                 && email.equals(otherVolunteer.email)
@@ -131,8 +138,11 @@ public class Volunteer {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, skills);
+        if (hash == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            hash = Objects.hash(name, phone, email, skills);
+        }
+        return hash;
     }
 
     @Override
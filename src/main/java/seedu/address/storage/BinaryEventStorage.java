@@ -0,0 +1,302 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_DATE_PARAMS;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ParallelConverter;
+import seedu.address.model.ReadOnlyEventStorage;
+import seedu.address.model.event.Budget;
+import seedu.address.model.event.DateTime;
+import seedu.address.model.event.Description;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventName;
+import seedu.address.model.event.Location;
+import seedu.address.model.event.Material;
+import seedu.address.model.event.MaxVolunteerSize;
+import seedu.address.model.event.Role;
+import seedu.address.model.volunteer.Name;
+import seedu.address.storage.event.JsonSerializableEventStorage;
+
+/**
+ * A class to access EventStorage data stored in the compact binary format of {@link BinaryStorageWriter} on the hard
+ * disk. Role, material and volunteer names are stored once in the string table, and quantities and dates are stored
+ * as numbers rather than text.
+ *
+ * The events read are checked against the same data constraints as events read from a json file.
+ */
+public class BinaryEventStorage implements EventStorage {
+
+    public static final byte CONTENT_TYPE = 'E';
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryEventStorage.class);
+
+    // stored in place of the default maximum volunteer size of Long.MAX_VALUE, which is also what 0 is read as
+    private static final long NO_MAX_VOLUNTEER_SIZE = 0;
+
+    private Path filePath;
+
+    public BinaryEventStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getEventStorageFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyEventStorage> readEventStorage() throws DataLoadingException {
+        return readEventStorage(filePath);
+    }
+
+    /**
+     * Similar to {@link #readEventStorage()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyEventStorage> readEventStorage(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(read(BinaryStorageReader.mapFile(filePath)));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveEventStorage(ReadOnlyEventStorage eventStorage) throws IOException {
+        saveEventStorage(eventStorage, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveEventStorage(ReadOnlyEventStorage)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveEventStorage(ReadOnlyEventStorage eventStorage, Path filePath) throws IOException {
+        requireNonNull(eventStorage);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> write(eventStorage, out));
+    }
+
+    /**
+     * Reads an event storage in the binary format of this class from {@code buffer}. The fields of the events are
+     * decoded from the buffer in order, and then validated and converted into events in parallel.
+     *
+     * @throws IOException if the data is not in the binary format of this class.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static ReadOnlyEventStorage read(ByteBuffer buffer) throws IOException, IllegalValueException {
+        BinaryStorageReader reader = new BinaryStorageReader(buffer, CONTENT_TYPE);
+        int eventCount = reader.readCount();
+        List<DecodedEvent> events = new ArrayList<>(eventCount);
+        for (int i = 0; i < eventCount; i++) {
+            events.add(readEvent(reader));
+        }
+        return JsonSerializableEventStorage.toEventStorage(
+                ParallelConverter.convertAll(events, DecodedEvent::toModelType));
+    }
+
+    /**
+     * Writes {@code source} to {@code out} in the binary format of this class.
+     */
+    public static void write(ReadOnlyEventStorage source, OutputStream out) throws IOException {
+        BinaryStorageWriter writer = new BinaryStorageWriter(CONTENT_TYPE);
+        List<Event> events = source.getEventList();
+        writer.writeCount(events.size());
+        for (Event event : events) {
+            writeEvent(writer, event);
+        }
+        writer.writeTo(out);
+    }
+
+    private static void writeEvent(BinaryStorageWriter writer, Event event) throws IOException {
+        writer.writeString(event.getEventName().eventName);
+        writer.writeCount(event.getRoles().size());
+        for (Role role : event.getRoles()) {
+            writer.writeString(role.roleName);
+            writer.writeCount(role.currentQuantity);
+            writer.writeCount(role.requiredQuantity);
+        }
+        writer.writeSignedLong(event.getStartDate().toEpochMinute());
+        writer.writeSignedLong(event.getEndDate().toEpochMinute());
+        writer.writeString(event.getLocation().location);
+        writer.writeString(event.getDescription().description);
+        writer.writeCount(event.getMaterials().size());
+        for (Material material : event.getMaterials()) {
+            writer.writeString(material.material);
+            writer.writeCount(material.currentQuantity);
+            writer.writeCount(material.requiredQuantity);
+        }
+        writer.writeString(event.getBudget().budget);
+        writer.writeCount(event.getAssignedVolunteers().size());
+        for (Name name : event.getAssignedVolunteers()) {
+            writer.writeString(name.fullName);
+        }
+        long maxVolunteerSize = event.getMaxVolunteerSize().maxVolunteerSize;
+        writer.writeSignedLong(maxVolunteerSize == Long.MAX_VALUE ? NO_MAX_VOLUNTEER_SIZE : maxVolunteerSize);
+    }
+
+    private static DecodedEvent readEvent(BinaryStorageReader reader) throws IOException {
+        DecodedEvent event = new DecodedEvent();
+        event.eventName = reader.readString();
+        event.roles = readQuantities(reader);
+        event.startEpochMinute = reader.readSignedLong();
+        event.endEpochMinute = reader.readSignedLong();
+        event.location = reader.readString();
+        event.description = reader.readString();
+        event.materials = readQuantities(reader);
+        event.budget = reader.readString();
+        int volunteerCount = reader.readCount();
+        event.assignedVolunteers = new String[volunteerCount];
+        for (int i = 0; i < volunteerCount; i++) {
+            event.assignedVolunteers[i] = reader.readString();
+        }
+        event.maxVolunteerSize = reader.readSignedLong();
+        return event;
+    }
+
+    private static DecodedQuantity[] readQuantities(BinaryStorageReader reader) throws IOException {
+        int count = reader.readCount();
+        DecodedQuantity[] quantities = new DecodedQuantity[count];
+        for (int i = 0; i < count; i++) {
+            quantities[i] = new DecodedQuantity(reader.readString(), reader.readCount(), reader.readCount());
+        }
+        return quantities;
+    }
+
+    /**
+     * The fields of a role or material as they are stored, before they are validated.
+     */
+    private static class DecodedQuantity {
+        private final String name;
+        private final int currentQuantity;
+        private final int requiredQuantity;
+
+        DecodedQuantity(String name, int currentQuantity, int requiredQuantity) {
+            this.name = name;
+            this.currentQuantity = currentQuantity;
+            this.requiredQuantity = requiredQuantity;
+        }
+
+        Role toRole() throws IllegalValueException {
+            if (!Role.isValidRoleName(name) || !Role.isValidQuantity(currentQuantity)
+                    || !Role.isValidQuantity(requiredQuantity)) {
+                throw new IllegalValueException(Role.MESSAGE_CONSTRAINTS);
+            }
+            return new Role(name, currentQuantity, requiredQuantity);
+        }
+
+        Material toMaterial() throws IllegalValueException {
+            if (!Material.isValidMaterialName(name) || !Material.isValidQuantity(currentQuantity)
+                    || !Material.isValidQuantity(requiredQuantity)) {
+                throw new IllegalValueException(Material.MESSAGE_CONSTRAINTS);
+            }
+            return new Material(name, currentQuantity, requiredQuantity);
+        }
+    }
+
+    /**
+     * The fields of an event as they are stored, before they are validated. Quantities and dates are kept as the
+     * numbers they are stored as, so that they are converted into the model's values without being parsed again.
+     * The text fields are checked against the same data constraints as events read from a json file.
+     */
+    private static class DecodedEvent {
+        private String eventName;
+        private DecodedQuantity[] roles;
+        private long startEpochMinute;
+        private long endEpochMinute;
+        private String location;
+        private String description;
+        private DecodedQuantity[] materials;
+        private String budget;
+        private String[] assignedVolunteers;
+        private long maxVolunteerSize;
+
+        Event toModelType() throws IllegalValueException {
+            if (!EventName.isValidEventName(eventName)) {
+                throw new IllegalValueException(EventName.MESSAGE_CONSTRAINTS);
+            }
+            Set<Role> modelRoles = new HashSet<>();
+            for (DecodedQuantity role : roles) {
+                modelRoles.add(role.toRole());
+            }
+            DateTime startDate = toDateTime(startEpochMinute);
+            DateTime endDate = toDateTime(endEpochMinute);
+            if (endEpochMinute < startEpochMinute) {
+                throw new IllegalValueException(MESSAGE_INVALID_DATE_PARAMS);
+            }
+            if (!Location.isValidLocation(location)) {
+                throw new IllegalValueException(Location.MESSAGE_CONSTRAINTS);
+            }
+            if (!Description.isValidDescription(description)) {
+                throw new IllegalValueException(Description.MESSAGE_CONSTRAINTS);
+            }
+            Set<Material> modelMaterials = new HashSet<>();
+            for (DecodedQuantity material : materials) {
+                modelMaterials.add(material.toMaterial());
+            }
+            if (!budget.isEmpty() && !Budget.isValidBudget(budget)) {
+                throw new IllegalValueException(Budget.MESSAGE_CONSTRAINTS);
+            }
+            Set<Name> modelAssignedVolunteers = new HashSet<>();
+            for (String name : assignedVolunteers) {
+                if (!Name.isValidName(name)) {
+                    throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+                }
+                modelAssignedVolunteers.add(Name.of(name));
+            }
+            if (!MaxVolunteerSize.isValidMaxVolunteerSize(maxVolunteerSize)) {
+                throw new IllegalValueException(MaxVolunteerSize.MESSAGE_CONSTRAINTS);
+            }
+
+            return new Event(EventName.of(eventName), modelRoles, startDate, endDate, new Location(location),
+                    new Description(description), modelMaterials, new Budget(budget), modelAssignedVolunteers,
+                    new MaxVolunteerSize(maxVolunteerSize));
+        }
+    }
+
+    /**
+     * Returns the date and time {@code epochMinute} minutes after the epoch.
+     *
+     * @throws IllegalValueException if {@code epochMinute} is out of the range of dates supported.
+     */
+    private static DateTime toDateTime(long epochMinute) throws IllegalValueException {
+        try {
+            return new DateTime(LocalDateTime.ofEpochSecond(Math.multiplyExact(epochMinute, 60L), 0, ZoneOffset.UTC));
+        } catch (DateTimeException | ArithmeticException e) {
+            throw new IllegalValueException(DateTime.MESSAGE_CONSTRAINTS);
+        }
+    }
+}
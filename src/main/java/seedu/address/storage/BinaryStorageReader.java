@@ -0,0 +1,162 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads data in the compact binary storage format written by {@link BinaryStorageWriter}, directly from a
+ * {@code ByteBuffer}, which is usually a memory-mapped file.
+ * The header and the positions of the strings in the string table are read when the reader is created, and the data
+ * is then read in the order it was written. Each string is only decoded the first time it is read, so strings that
+ * are never used are never constructed.
+ */
+public class BinaryStorageReader {
+
+    // files smaller than this are read into memory instead, as mapping them costs more than reading them
+    public static final long MAPPING_THRESHOLD = 1024 * 1024;
+
+    private final ByteBuffer buffer;
+    private final int[] stringOffsets;
+    private final int[] stringLengths;
+    private final String[] strings;
+
+    /**
+     * Creates a {@code BinaryStorageReader} that reads data identified by {@code contentType} from the current
+     * position of {@code buffer}.
+     *
+     * @throws IOException if {@code buffer} does not start with the header and string table of such data.
+     */
+    public BinaryStorageReader(ByteBuffer buffer, byte contentType) throws IOException {
+        requireNonNull(buffer);
+        this.buffer = buffer;
+
+        if (buffer.remaining() < Integer.BYTES || buffer.getInt() != BinaryStorageWriter.MAGIC) {
+            throw new IOException("Not a binary storage file");
+        }
+        int formatVersion = readVarInt();
+        if (formatVersion > BinaryStorageWriter.FORMAT_VERSION) {
+            throw new IOException("Unsupported binary storage format version " + formatVersion);
+        }
+        if (readByte() != contentType) {
+            throw new IOException("The binary storage file does not contain the expected data");
+        }
+
+        int stringCount = readVarInt();
+        // every string takes at least a byte for its length, which bounds the count if the file is corrupted
+        if (stringCount > buffer.remaining()) {
+            throw new EOFException();
+        }
+        stringOffsets = new int[stringCount];
+        stringLengths = new int[stringCount];
+        strings = new String[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            int length = readVarInt();
+            if (length > buffer.remaining()) {
+                throw new EOFException();
+            }
+            stringOffsets[i] = buffer.position();
+            stringLengths[i] = length;
+            buffer.position(buffer.position() + length);
+        }
+    }
+
+    /**
+     * Returns the contents of the file at {@code filePath}, memory-mapped if the file is large enough for mapping to
+     * be worthwhile.
+     */
+    public static ByteBuffer mapFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("The binary storage file is too large to be read");
+            }
+            if (size < MAPPING_THRESHOLD) {
+                return ByteBuffer.wrap(Files.readAllBytes(filePath));
+            }
+            // the mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts with the header of the binary storage format.
+     */
+    public static boolean isBinaryStorageFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(filePath))) {
+            return in.readInt() == BinaryStorageWriter.MAGIC;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reads a string written by {@link BinaryStorageWriter#writeString(String)}.
+     */
+    public String readString() throws IOException {
+        int index = readVarInt();
+        if (index >= strings.length) {
+            throw new IOException("String index " + index + " is not in the string table");
+        }
+        if (strings[index] == null) {
+            byte[] bytes = new byte[stringLengths[index]];
+            ByteBuffer string = buffer.duplicate();
+            string.position(stringOffsets[index]);
+            string.get(bytes);
+            strings[index] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return strings[index];
+    }
+
+    /**
+     * Reads a count written by {@link BinaryStorageWriter#writeCount(int)}.
+     */
+    public int readCount() throws IOException {
+        return readVarInt();
+    }
+
+    /**
+     * Reads a number written by {@link BinaryStorageWriter#writeSignedLong(long)}.
+     */
+    public long readSignedLong() throws IOException {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private int readByte() throws IOException {
+        if (!buffer.hasRemaining()) {
+            throw new EOFException();
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    private int readVarInt() throws IOException {
+        long value = readVarLong();
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IOException("Count " + value + " is too large");
+        }
+        return (int) value;
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Variable-length integer is too long");
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes data in the compact binary storage format, which is laid out as:
+ * <ol>
+ *     <li>a header of the {@link #MAGIC} number, the {@link #FORMAT_VERSION} and a byte identifying the content,</li>
+ *     <li>a string table, holding every distinct string in the data once,</li>
+ *     <li>the data itself, where strings are written as their index in the string table.</li>
+ * </ol>
+ * Counts, quantities and indexes are written as unsigned variable-length integers of 7 bits per byte, and signed
+ * numbers such as dates are zigzag-encoded first, so that small numbers only take a byte or two.
+ *
+ * The data is buffered until {@link #writeTo(OutputStream)} is called, since the string table that precedes it is only
+ * complete once all of the data has been written.
+ */
+public class BinaryStorageWriter {
+
+    public static final int MAGIC = 0x564D5342;
+    public static final int FORMAT_VERSION = 1;
+
+    private final byte contentType;
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private final ByteArrayOutputStream data = new ByteArrayOutputStream();
+
+    /**
+     * Creates a {@code BinaryStorageWriter} for data identified by {@code contentType}.
+     */
+    public BinaryStorageWriter(byte contentType) {
+        this.contentType = contentType;
+    }
+
+    /**
+     * Writes {@code value} as its index in the string table, adding it to the table if it is not there yet.
+     */
+    public void writeString(String value) throws IOException {
+        requireNonNull(value);
+        Integer index = stringIndexes.get(value);
+        if (index == null) {
+            index = strings.size();
+            strings.add(value);
+            stringIndexes.put(value, index);
+        }
+        writeVarInt(data, index);
+    }
+
+    /**
+     * Writes {@code value}, which must not be negative, as a variable-length integer.
+     */
+    public void writeCount(int value) throws IOException {
+        checkArgument(value >= 0, "Only counts that are not negative can be written");
+        writeVarInt(data, value);
+    }
+
+    /**
+     * Writes {@code value} as a zigzag-encoded variable-length integer.
+     */
+    public void writeSignedLong(long value) throws IOException {
+        writeVarLong(data, (value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Writes the header, the string table and the data written so far to {@code out}.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        requireNonNull(out);
+        DataOutputStream header = new DataOutputStream(out);
+        header.writeInt(MAGIC);
+        writeVarInt(out, FORMAT_VERSION);
+        out.write(contentType);
+
+        writeVarInt(out, strings.size());
+        for (String value : strings) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(out, bytes.length);
+            out.write(bytes);
+        }
+        data.writeTo(out);
+        out.flush();
+    }
+
+    private static void writeVarInt(OutputStream out, int value) throws IOException {
+        writeVarLong(out, Integer.toUnsignedLong(value));
+    }
+
+    private static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
@@ -0,0 +1,204 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ParallelConverter;
+import seedu.address.model.ReadOnlyVolunteerStorage;
+import seedu.address.model.event.EventName;
+import seedu.address.model.skill.Skill;
+import seedu.address.model.volunteer.Email;
+import seedu.address.model.volunteer.Name;
+import seedu.address.model.volunteer.Phone;
+import seedu.address.model.volunteer.Volunteer;
+import seedu.address.storage.volunteer.JsonSerializableVolunteerStorage;
+
+/**
+ * A class to access VolunteerStorage data stored in the compact binary format of {@link BinaryStorageWriter} on the
+ * hard disk. Skill and event names are stored once in the string table.
+ *
+ * The volunteers read are checked against the same data constraints as volunteers read from a json file.
+ */
+public class BinaryVolunteerStorage implements VolunteerStorage {
+
+    public static final byte CONTENT_TYPE = 'V';
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryVolunteerStorage.class);
+
+    private Path filePath;
+
+    public BinaryVolunteerStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getVolunteerStorageFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyVolunteerStorage> readVolunteerStorage() throws DataLoadingException {
+        return readVolunteerStorage(filePath);
+    }
+
+    /**
+     * Similar to {@link #readVolunteerStorage()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyVolunteerStorage> readVolunteerStorage(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(read(BinaryStorageReader.mapFile(filePath)));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveVolunteerStorage(ReadOnlyVolunteerStorage volunteerStorage) throws IOException {
+        saveVolunteerStorage(volunteerStorage, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveVolunteerStorage(ReadOnlyVolunteerStorage)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveVolunteerStorage(ReadOnlyVolunteerStorage volunteerStorage, Path filePath) throws IOException {
+        requireNonNull(volunteerStorage);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> write(volunteerStorage, out));
+    }
+
+    /**
+     * Reads a volunteer storage in the binary format of this class from {@code buffer}. The fields of the volunteers
+     * are decoded from the buffer in order, and then validated and converted into volunteers in parallel.
+     *
+     * @throws IOException if the data is not in the binary format of this class.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static ReadOnlyVolunteerStorage read(ByteBuffer buffer) throws IOException, IllegalValueException {
+        BinaryStorageReader reader = new BinaryStorageReader(buffer, CONTENT_TYPE);
+        int volunteerCount = reader.readCount();
+        List<DecodedVolunteer> volunteers = new ArrayList<>(volunteerCount);
+        for (int i = 0; i < volunteerCount; i++) {
+            volunteers.add(readVolunteer(reader));
+        }
+        return JsonSerializableVolunteerStorage.toVolunteerStorage(
+                ParallelConverter.convertAll(volunteers, DecodedVolunteer::toModelType));
+    }
+
+    /**
+     * Writes {@code source} to {@code out} in the binary format of this class.
+     */
+    public static void write(ReadOnlyVolunteerStorage source, OutputStream out) throws IOException {
+        BinaryStorageWriter writer = new BinaryStorageWriter(CONTENT_TYPE);
+        List<Volunteer> volunteers = source.getVolunteerList();
+        writer.writeCount(volunteers.size());
+        for (Volunteer volunteer : volunteers) {
+            writeVolunteer(writer, volunteer);
+        }
+        writer.writeTo(out);
+    }
+
+    private static void writeVolunteer(BinaryStorageWriter writer, Volunteer volunteer) throws IOException {
+        writer.writeString(volunteer.getName().fullName);
+        writer.writeString(volunteer.getPhone().value);
+        writer.writeString(volunteer.getEmail().value);
+        writer.writeCount(volunteer.getSkills().size());
+        for (Skill skill : volunteer.getSkills()) {
+            writer.writeString(skill.skillName);
+        }
+        writer.writeCount(volunteer.getAssignedEvents().size());
+        for (EventName eventName : volunteer.getAssignedEvents()) {
+            writer.writeString(eventName.eventName);
+        }
+    }
+
+    private static DecodedVolunteer readVolunteer(BinaryStorageReader reader) throws IOException {
+        DecodedVolunteer volunteer = new DecodedVolunteer();
+        volunteer.name = reader.readString();
+        volunteer.phone = reader.readString();
+        volunteer.email = reader.readString();
+        volunteer.skills = readStrings(reader);
+        volunteer.assignedEvents = readStrings(reader);
+        return volunteer;
+    }
+
+    private static String[] readStrings(BinaryStorageReader reader) throws IOException {
+        int count = reader.readCount();
+        String[] strings = new String[count];
+        for (int i = 0; i < count; i++) {
+            strings[i] = reader.readString();
+        }
+        return strings;
+    }
+
+    /**
+     * The fields of a volunteer as they are stored, before they are validated. They are checked against the same data
+     * constraints as volunteers read from a json file.
+     */
+    private static class DecodedVolunteer {
+        private String name;
+        private String phone;
+        private String email;
+        private String[] skills;
+        private String[] assignedEvents;
+
+        Volunteer toModelType() throws IllegalValueException {
+            Set<Skill> modelSkills = new HashSet<>();
+            for (String skill : skills) {
+                if (!Skill.isValidSkillName(skill)) {
+                    throw new IllegalValueException(Skill.MESSAGE_CONSTRAINTS);
+                }
+                modelSkills.add(Skill.of(skill));
+            }
+            Set<EventName> modelEvents = new HashSet<>();
+            for (String eventName : assignedEvents) {
+                if (!EventName.isValidEventName(eventName)) {
+                    throw new IllegalValueException(EventName.MESSAGE_CONSTRAINTS);
+                }
+                modelEvents.add(EventName.of(eventName));
+            }
+            if (!Name.isValidName(name)) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            if (!Phone.isValidPhone(phone)) {
+                throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+            }
+            if (!Email.isValidEmail(email)) {
+                throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+            }
+
+            return new Volunteer(Name.of(name), new Phone(phone), new Email(email), modelSkills, modelEvents);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyEventStorage;
+import seedu.address.model.event.Event;
+import seedu.address.storage.event.JsonAdaptedEventSplice;
+import seedu.address.storage.event.JsonSerializableEventStorage;
+
+/**
+ * A class to access EventStorage data stored as a json snapshot file on the hard disk, together with a journal of the
+ * changes made since the snapshot was written. Each save only appends the events that were added, removed or edited.
+ * The snapshot has the same format as the file written by {@link JsonEventStorage}.
+ */
+public class JournalEventStorage implements EventStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalEventStorage.class);
+
+    private Path filePath;
+    private final JsonJournal<Event> journal;
+
+    public JournalEventStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalEventStorage} that rewrites the snapshot once its journal has
+     * {@code compactionThreshold} entries.
+     */
+    public JournalEventStorage(Path filePath, int compactionThreshold) {
+        this.filePath = filePath;
+        this.journal = new JsonJournal<>(compactionThreshold);
+    }
+
+    @Override
+    public Path getEventStorageFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyEventStorage> readEventStorage() throws DataLoadingException {
+        return readEventStorage(filePath);
+    }
+
+    /**
+     * Similar to {@link #readEventStorage()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyEventStorage> readEventStorage(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            Optional<ReadOnlyEventStorage> snapshot = journal.<ReadOnlyEventStorage>readSnapshot(filePath,
+                    JsonSerializableEventStorage::readModelType);
+            if (!snapshot.isPresent()) {
+                return Optional.empty();
+            }
+
+            List<JsonAdaptedEventSplice> entries = journal.readEntries(JsonAdaptedEventSplice.class);
+            ReadOnlyEventStorage eventStorage = snapshot.get();
+            if (!entries.isEmpty()) {
+                List<Event> events = new ArrayList<>(eventStorage.getEventList());
+                for (JsonAdaptedEventSplice entry : entries) {
+                    entry.applyTo(events);
+                }
+                eventStorage = JsonSerializableEventStorage.toEventStorage(events);
+            }
+            journal.markLoaded(eventStorage.getEventList(), entries.size());
+            return Optional.of(eventStorage);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveEventStorage(ReadOnlyEventStorage eventStorage) throws IOException {
+        saveEventStorage(eventStorage, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveEventStorage(ReadOnlyEventStorage)}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public void saveEventStorage(ReadOnlyEventStorage eventStorage, Path filePath) throws IOException {
+        requireNonNull(eventStorage);
+        requireNonNull(filePath);
+
+        journal.save(filePath, eventStorage.getEventList(),
+                generator -> JsonSerializableEventStorage.write(eventStorage, generator), JsonAdaptedEventSplice::new);
+    }
+
+}
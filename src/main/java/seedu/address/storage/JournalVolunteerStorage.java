@@ -0,0 +1,110 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyVolunteerStorage;
+import seedu.address.model.volunteer.Volunteer;
+import seedu.address.storage.volunteer.JsonAdaptedVolunteerSplice;
+import seedu.address.storage.volunteer.JsonSerializableVolunteerStorage;
+
+/**
+ * A class to access VolunteerStorage data stored as a json snapshot file on the hard disk, together with a journal of
+ * the changes made since the snapshot was written. Each save only appends the volunteers that were added, removed or
+ * edited.
+ * The snapshot has the same format as the file written by {@link JsonVolunteerStorage}.
+ */
+public class JournalVolunteerStorage implements VolunteerStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalVolunteerStorage.class);
+
+    private Path filePath;
+    private final JsonJournal<Volunteer> journal;
+
+    public JournalVolunteerStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalVolunteerStorage} that rewrites the snapshot once its journal has
+     * {@code compactionThreshold} entries.
+     */
+    public JournalVolunteerStorage(Path filePath, int compactionThreshold) {
+        this.filePath = filePath;
+        this.journal = new JsonJournal<>(compactionThreshold);
+    }
+
+    @Override
+    public Path getVolunteerStorageFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyVolunteerStorage> readVolunteerStorage() throws DataLoadingException {
+        return readVolunteerStorage(filePath);
+    }
+
+    /**
+     * Similar to {@link #readVolunteerStorage()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyVolunteerStorage> readVolunteerStorage(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            Optional<ReadOnlyVolunteerStorage> snapshot = journal.<ReadOnlyVolunteerStorage>readSnapshot(filePath,
+                    JsonSerializableVolunteerStorage::readModelType);
+            if (!snapshot.isPresent()) {
+                return Optional.empty();
+            }
+
+            List<JsonAdaptedVolunteerSplice> entries = journal.readEntries(JsonAdaptedVolunteerSplice.class);
+            ReadOnlyVolunteerStorage volunteerStorage = snapshot.get();
+            if (!entries.isEmpty()) {
+                List<Volunteer> volunteers = new ArrayList<>(volunteerStorage.getVolunteerList());
+                for (JsonAdaptedVolunteerSplice entry : entries) {
+                    entry.applyTo(volunteers);
+                }
+                volunteerStorage = JsonSerializableVolunteerStorage.toVolunteerStorage(volunteers);
+            }
+            journal.markLoaded(volunteerStorage.getVolunteerList(), entries.size());
+            return Optional.of(volunteerStorage);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveVolunteerStorage(ReadOnlyVolunteerStorage volunteerStorage) throws IOException {
+        saveVolunteerStorage(volunteerStorage, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveVolunteerStorage(ReadOnlyVolunteerStorage)}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public void saveVolunteerStorage(ReadOnlyVolunteerStorage volunteerStorage, Path filePath) throws IOException {
+        requireNonNull(volunteerStorage);
+        requireNonNull(filePath);
+
+        journal.save(filePath, volunteerStorage.getVolunteerList(),
+                generator -> JsonSerializableVolunteerStorage.write(volunteerStorage, generator),
+                JsonAdaptedVolunteerSplice::new);
+    }
+
+}
@@ -0,0 +1,60 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of a {@link seedu.address.model.util.ListEdit} that replaces a range of a stored list.
+ * Only the number of removed elements is stored, as the removed elements are already in the stored list.
+ *
+ * @param <A> the Jackson-friendly type of the elements in the stored list.
+ * @param <T> the model type of the elements in the stored list.
+ */
+public abstract class JsonAdaptedSplice<A, T> {
+
+    public static final String MESSAGE_OUT_OF_BOUNDS = "Journal entry does not fit the stored list.";
+
+    private final int from;
+    private final int removedCount;
+    private final List<A> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedSplice} that replaces the {@code removedCount} elements starting at {@code from}
+     * with {@code added}.
+     */
+    protected JsonAdaptedSplice(int from, int removedCount, List<A> added) {
+        this.from = from;
+        this.removedCount = removedCount;
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Applies this splice to {@code list}, converting the added elements into the model's type.
+     *
+     * @throws IllegalValueException if the replaced range is not within {@code list}, or if there were any data
+     *     constraints violated in the added elements.
+     */
+    public void applyTo(List<T> list) throws IllegalValueException {
+        if (from < 0 || removedCount < 0 || from + removedCount > list.size()) {
+            throw new IllegalValueException(MESSAGE_OUT_OF_BOUNDS);
+        }
+        List<T> addedElements = new ArrayList<>();
+        for (A element : added) {
+            addedElements.add(toModelType(element));
+        }
+        list.subList(from, from + removedCount).clear();
+        list.addAll(from, addedElements);
+    }
+
+    /**
+     * Converts an added element into the model's type.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the element.
+     */
+    protected abstract T toModelType(A element) throws IllegalValueException;
+
+}
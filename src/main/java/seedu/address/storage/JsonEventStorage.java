@@ -47,14 +47,8 @@ public class JsonEventStorage implements EventStorage {
     public Optional<ReadOnlyEventStorage> readEventStorage(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableEventStorage> jsonEventStorage = JsonUtil.readJsonFile(
-                filePath, JsonSerializableEventStorage.class);
-        if (!jsonEventStorage.isPresent()) {
-            return Optional.empty();
-        }
-
         try {
-            return Optional.of(jsonEventStorage.get().toModelType());
+            return JsonUtil.<ReadOnlyEventStorage>readJsonFile(filePath, JsonSerializableEventStorage::readModelType);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -76,7 +70,7 @@ public class JsonEventStorage implements EventStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableEventStorage(eventStorage), filePath);
+        JsonUtil.saveJsonFile(filePath, generator -> JsonSerializableEventStorage.write(eventStorage, generator));
     }
 
 }
@@ -0,0 +1,284 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.util.ListChangeRecorder;
+import seedu.address.model.util.ListEdit;
+
+/**
+ * Persists a list as a JSON snapshot file together with an append-only journal of the changes made to the list since
+ * the snapshot was written, so that saving a change costs time proportional to the size of the change rather than the
+ * size of the list.
+ *
+ * The journal is stored next to the snapshot, with {@link #JOURNAL_FILE_SUFFIX} appended to its file name. Its first
+ * line is the checksum of the snapshot it applies to, so a journal left behind by an interrupted compaction is
+ * ignored, and every following line is a JSON entry describing one change to the list.
+ * Once an {@code ObservableList} has been saved, the changes made to it are recorded as they happen, so later saves
+ * neither compare it with the saved list nor keep a copy of it. The snapshot is rewritten, and the journal emptied,
+ * once the journal reaches the compaction threshold.
+ *
+ * @param <T> the type of elements in the persisted list.
+ */
+public class JsonJournal<T> {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonJournal.class);
+
+    private final int compactionThreshold;
+
+    // the state of the files on the hard disk, as last read or written by this journal
+    private Path snapshotPath;
+    private long snapshotChecksum;
+    private List<T> savedContents;
+    private ObservableList<? extends T> recordedList;
+    private ListChangeRecorder<T> recorder;
+    private int entryCount;
+    private boolean isJournalDamaged;
+
+    /**
+     * Creates a {@code JsonJournal} that rewrites the snapshot once the journal has {@code compactionThreshold}
+     * entries.
+     */
+    public JsonJournal(int compactionThreshold) {
+        assert compactionThreshold > 0;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the path of the journal of the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalPath(Path snapshotPath) {
+        requireNonNull(snapshotPath);
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the snapshot at {@code snapshotPath} as read by {@code reader}, or {@code Optional.empty()} if the file
+     * is not found. The entries of its journal can then be read with {@link #readEntries(Class)}.
+     *
+     * @throws DataLoadingException if loading of the snapshot failed.
+     * @throws IllegalValueException if {@code reader} found any data constraints violated.
+     */
+    public <S> Optional<S> readSnapshot(Path snapshotPath, JsonUtil.JsonStreamReader<S> reader)
+            throws DataLoadingException, IllegalValueException {
+        requireAllNonNull(snapshotPath, reader);
+        this.snapshotPath = null;
+        this.savedContents = null;
+        stopRecording();
+
+        if (!Files.exists(snapshotPath)) {
+            return Optional.empty();
+        }
+
+        CRC32 checksum = new CRC32();
+        try (InputStream in = new CheckedInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)),
+                checksum)) {
+            S snapshot = JsonUtil.readJson(in, reader);
+            // the checksum covers the whole file, including anything after the JSON data
+            in.transferTo(OutputStream.nullOutputStream());
+            this.snapshotPath = snapshotPath;
+            this.snapshotChecksum = checksum.getValue();
+            return Optional.of(snapshot);
+        } catch (IOException e) {
+            logger.warning("Error reading from snapshot file " + snapshotPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the entries of the journal of the snapshot last read by
+     * {@link #readSnapshot(Path, JsonUtil.JsonStreamReader)}, in the order they were appended.
+     *
+     * @throws DataLoadingException if the journal could not be read, or an entry other than the last is invalid.
+     */
+    public <E> List<E> readEntries(Class<E> entryClass) throws DataLoadingException {
+        requireNonNull(entryClass);
+        assert snapshotPath != null : "readSnapshot must find a snapshot before its journal is read";
+        List<E> entries = new ArrayList<>();
+        isJournalDamaged = false;
+
+        Path journalPath = getJournalPath(snapshotPath);
+        if (!Files.exists(journalPath)) {
+            return entries;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        if (lines.isEmpty() || !lines.get(0).equals(Long.toString(snapshotChecksum))) {
+            logger.warning("Ignoring journal file " + journalPath + " as it was not written for " + snapshotPath);
+            isJournalDamaged = true;
+            return entries;
+        }
+
+        for (int i = 1; i < lines.size(); i++) {
+            try {
+                entries.add(JsonUtil.fromJsonString(lines.get(i), entryClass));
+            } catch (IOException e) {
+                if (i < lines.size() - 1) {
+                    logger.warning("Error reading from journal file " + journalPath + ": " + e);
+                    throw new DataLoadingException(e);
+                }
+                // the last entry is incomplete if the application stopped while appending it
+                logger.warning("Ignoring incomplete last entry of journal file " + journalPath);
+                isJournalDamaged = true;
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Records that {@code contents} is the list stored by the snapshot last read and the entries of its journal, so
+     * that later saves only append the changes made to it.
+     */
+    public void markLoaded(List<? extends T> contents, int entryCount) {
+        requireNonNull(contents);
+        assert snapshotPath != null;
+        stopRecording();
+        this.savedContents = new ArrayList<>(contents);
+        this.entryCount = entryCount;
+    }
+
+    /**
+     * Saves {@code contents} to {@code snapshotPath}, by appending the changes made to it since it was last saved to
+     * the journal, or by writing a new snapshot if the snapshot at {@code snapshotPath} is not the one last read or
+     * written, if the changes made to {@code contents} are not known, or if the journal is due for compaction.
+     * If {@code contents} is an {@code ObservableList}, the changes made to it from then on are recorded for the
+     * next save.
+     *
+     * @param snapshotWriter writes {@code contents} as a snapshot, if a new snapshot is written.
+     * @param toEntry converts the changes made to {@code contents} into a Jackson-friendly journal entry.
+     */
+    public void save(Path snapshotPath, List<? extends T> contents, JsonUtil.JsonStreamWriter snapshotWriter,
+                     Function<ListEdit<T>, ?> toEntry) throws IOException {
+        requireAllNonNull(snapshotPath, contents, snapshotWriter, toEntry);
+
+        if (isCompactionDue(snapshotPath, contents)) {
+            writeSnapshot(snapshotPath, contents, snapshotWriter);
+            startTracking(contents);
+            return;
+        }
+
+        List<ListEdit<T>> changes = getChangesSinceSave(contents);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        // every entry starts with its own line break, so an entry never runs into the previous one
+        StringBuilder text = new StringBuilder();
+        if (entryCount == 0) {
+            text.append(snapshotChecksum);
+        }
+        for (ListEdit<T> change : changes) {
+            text.append('\n').append(JsonUtil.toCompactJsonString(toEntry.apply(change)));
+        }
+        try {
+            Files.write(getJournalPath(snapshotPath), text.toString().getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    entryCount == 0 ? StandardOpenOption.TRUNCATE_EXISTING : StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            // the entry may have been partially written, so the next save rewrites the snapshot instead
+            isJournalDamaged = true;
+            throw e;
+        }
+        entryCount += changes.size();
+        startTracking(contents);
+    }
+
+    private boolean isCompactionDue(Path snapshotPath, List<? extends T> contents) {
+        boolean isTracked = contents == recordedList || savedContents != null;
+        return !isTracked || !snapshotPath.equals(this.snapshotPath) || isJournalDamaged
+                || entryCount >= compactionThreshold;
+    }
+
+    /**
+     * Returns the changes made to {@code contents} since it was last saved, as recorded if it has been saved before,
+     * or else as found by comparing it with the list last read or written.
+     */
+    private List<ListEdit<T>> getChangesSinceSave(List<? extends T> contents) {
+        if (contents == recordedList) {
+            return recorder.drain();
+        }
+        return ListEdit.between(savedContents, contents)
+                .map(Collections::singletonList)
+                .orElse(Collections.emptyList());
+    }
+
+    /**
+     * Starts recording the changes made to {@code contents}, which has just been saved, or keeps a copy of it to
+     * compare with on the next save if its changes cannot be recorded.
+     */
+    private void startTracking(List<? extends T> contents) {
+        if (contents == recordedList) {
+            recorder.clear();
+            return;
+        }
+        stopRecording();
+        if (contents instanceof ObservableList) {
+            recordedList = (ObservableList<? extends T>) contents;
+            recorder = new ListChangeRecorder<>();
+            recordedList.addListener(recorder);
+            savedContents = null;
+        } else {
+            savedContents = new ArrayList<>(contents);
+        }
+    }
+
+    private void stopRecording() {
+        if (recordedList != null) {
+            recordedList.removeListener(recorder);
+            recordedList = null;
+            recorder = null;
+        }
+    }
+
+    /**
+     * Replaces the snapshot at {@code snapshotPath} with the one written by {@code snapshotWriter} and deletes its
+     * journal. The snapshot is written before the journal is deleted, and the checksum in the journal no longer
+     * matches it, so the data is never lost if the application stops in between.
+     */
+    private void writeSnapshot(Path snapshotPath, List<? extends T> contents, JsonUtil.JsonStreamWriter snapshotWriter)
+            throws IOException {
+        CRC32 checksum = new CRC32();
+        FileUtil.createParentDirsOfFile(snapshotPath);
+        FileUtil.writeToFileAtomically(snapshotPath,
+                out -> JsonUtil.writeJson(new CheckedOutputStream(out, checksum), snapshotWriter));
+        Files.deleteIfExists(getJournalPath(snapshotPath));
+
+        this.snapshotPath = snapshotPath;
+        this.snapshotChecksum = checksum.getValue();
+        this.entryCount = 0;
+        this.isJournalDamaged = false;
+        logger.fine("Compacted journal into snapshot file " + snapshotPath);
+    }
+}
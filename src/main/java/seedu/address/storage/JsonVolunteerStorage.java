@@ -47,14 +47,9 @@ public class JsonVolunteerStorage implements VolunteerStorage {
     public Optional<ReadOnlyVolunteerStorage> readVolunteerStorage(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableVolunteerStorage> jsonVolunteerStorage = JsonUtil.readJsonFile(
-                filePath, JsonSerializableVolunteerStorage.class);
-        if (!jsonVolunteerStorage.isPresent()) {
-            return Optional.empty();
-        }
-
         try {
-            return Optional.of(jsonVolunteerStorage.get().toModelType());
+            return JsonUtil.<ReadOnlyVolunteerStorage>readJsonFile(filePath,
+                    JsonSerializableVolunteerStorage::readModelType);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -76,7 +71,8 @@ public class JsonVolunteerStorage implements VolunteerStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableVolunteerStorage(volunteerStorage), filePath);
+        JsonUtil.saveJsonFile(filePath,
+                generator -> JsonSerializableVolunteerStorage.write(volunteerStorage, generator));
     }
 
 }
@@ -41,4 +41,17 @@ public interface Storage extends EventStorage, VolunteerStorage, UserPrefsStorag
     @Override
     void saveVolunteerStorage(ReadOnlyVolunteerStorage newData) throws IOException;
 
+    /**
+     * Throws the error of a save that failed in the background since this method was last called, if any.
+     * The failed data is kept and saved again by the next save or by {@link #flush()}.
+     */
+    void checkBackgroundSaveError() throws IOException;
+
+    /**
+     * Waits until all data saved in the background has been written, retrying saves that failed.
+     *
+     * @throws IOException if a save failed.
+     */
+    void flush() throws IOException;
+
 }
@@ -0,0 +1,141 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyEventStorage;
+import seedu.address.model.ReadOnlyVolunteerStorage;
+
+/**
+ * Creates the event and volunteer storages of each {@code StorageFormat}, and converts data files between the
+ * formats. Every format stores the same model data, so converting a file from one format to another and back again
+ * loses nothing.
+ */
+public class StorageFormatConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(StorageFormatConverter.class);
+
+    /**
+     * Returns an {@code EventStorage} that stores its data at {@code filePath} in {@code format}.
+     */
+    public static EventStorage createEventStorage(Path filePath, StorageFormat format) {
+        requireAllNonNull(filePath, format);
+        if (format == StorageFormat.BINARY) {
+            return new BinaryEventStorage(filePath);
+        }
+        return new JournalEventStorage(filePath);
+    }
+
+    /**
+     * Returns a {@code VolunteerStorage} that stores its data at {@code filePath} in {@code format}.
+     */
+    public static VolunteerStorage createVolunteerStorage(Path filePath, StorageFormat format) {
+        requireAllNonNull(filePath, format);
+        if (format == StorageFormat.BINARY) {
+            return new BinaryVolunteerStorage(filePath);
+        }
+        return new JournalVolunteerStorage(filePath);
+    }
+
+    /**
+     * Returns the format of the existing data file at {@code filePath}.
+     */
+    public static StorageFormat getFormat(Path filePath) throws IOException {
+        return BinaryStorageReader.isBinaryStorageFile(filePath) ? StorageFormat.BINARY : StorageFormat.JSON;
+    }
+
+    /**
+     * Copies the data read from {@code source} to {@code target}.
+     *
+     * @return false if {@code source} has no data file to copy.
+     * @throws DataLoadingException if the data could not be read from {@code source}.
+     * @throws IOException if the data could not be written to {@code target}.
+     */
+    public static boolean convert(EventStorage source, EventStorage target) throws DataLoadingException, IOException {
+        requireAllNonNull(source, target);
+        Optional<ReadOnlyEventStorage> eventStorage = source.readEventStorage();
+        if (!eventStorage.isPresent()) {
+            return false;
+        }
+        target.saveEventStorage(eventStorage.get());
+        return true;
+    }
+
+    /**
+     * Copies the data read from {@code source} to {@code target}.
+     *
+     * @return false if {@code source} has no data file to copy.
+     * @throws DataLoadingException if the data could not be read from {@code source}.
+     * @throws IOException if the data could not be written to {@code target}.
+     */
+    public static boolean convert(VolunteerStorage source, VolunteerStorage target)
+            throws DataLoadingException, IOException {
+        requireAllNonNull(source, target);
+        Optional<ReadOnlyVolunteerStorage> volunteerStorage = source.readVolunteerStorage();
+        if (!volunteerStorage.isPresent()) {
+            return false;
+        }
+        target.saveVolunteerStorage(volunteerStorage.get());
+        return true;
+    }
+
+    /**
+     * Rewrites the event data file at {@code filePath} in {@code format}, if it exists in the other format.
+     *
+     * @throws DataLoadingException if the existing file could not be read.
+     * @throws IOException if the file could not be rewritten.
+     */
+    public static void convertEventStorageFile(Path filePath, StorageFormat format)
+            throws DataLoadingException, IOException {
+        requireAllNonNull(filePath, format);
+        if (!Files.exists(filePath)) {
+            return;
+        }
+        StorageFormat currentFormat = getFormat(filePath);
+        if (currentFormat == format) {
+            return;
+        }
+        convert(createEventStorage(filePath, currentFormat), createEventStorage(filePath, format));
+        deleteStaleJournal(filePath, currentFormat);
+        logger.info("Converted data file " + filePath + " from " + currentFormat + " to " + format);
+    }
+
+    /**
+     * Rewrites the volunteer data file at {@code filePath} in {@code format}, if it exists in the other format.
+     *
+     * @throws DataLoadingException if the existing file could not be read.
+     * @throws IOException if the file could not be rewritten.
+     */
+    public static void convertVolunteerStorageFile(Path filePath, StorageFormat format)
+            throws DataLoadingException, IOException {
+        requireAllNonNull(filePath, format);
+        if (!Files.exists(filePath)) {
+            return;
+        }
+        StorageFormat currentFormat = getFormat(filePath);
+        if (currentFormat == format) {
+            return;
+        }
+        convert(createVolunteerStorage(filePath, currentFormat), createVolunteerStorage(filePath, format));
+        deleteStaleJournal(filePath, currentFormat);
+        logger.info("Converted data file " + filePath + " from " + currentFormat + " to " + format);
+    }
+
+    /**
+     * Deletes the journal of a json snapshot at {@code filePath} that has just been rewritten in another format, as
+     * its changes are already part of the rewritten file.
+     */
+    private static void deleteStaleJournal(Path filePath, StorageFormat oldFormat) throws IOException {
+        if (oldFormat == StorageFormat.JSON) {
+            Files.deleteIfExists(JsonJournal.getJournalPath(filePath));
+        }
+    }
+}
@@ -1,8 +1,14 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -14,6 +20,10 @@ import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of EventStorage and VolunteerStorage data in local storage.
+ *
+ * Event and volunteer data can be saved in the background, by a single writer thread. Each save then only copies the
+ * data and returns, and saves made while the writer is busy are coalesced, so that only the latest data for each file
+ * is written. Errors of background saves are reported by {@link #checkBackgroundSaveError()} and {@link #flush()}.
  */
 public class StorageManager implements Storage {
 
@@ -22,15 +32,40 @@ public class StorageManager implements Storage {
     private EventStorage eventStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    // null if data is saved on the calling thread
+    private final ExecutorService writer;
+
+    // guards the fields below, which are shared with the writer thread
+    private final Object pendingSavesLock = new Object();
+    private final Map<Path, ReadOnlyEventStorage> pendingEventSaves = new LinkedHashMap<>();
+    private final Map<Path, ReadOnlyVolunteerStorage> pendingVolunteerSaves = new LinkedHashMap<>();
+    private boolean isWriterScheduled;
+    private IOException backgroundSaveError;
+
     /**
      * Creates a {@code StorageManager} with the given {@code VolunteerStorage}, {@code EventStorage}
-     * and {@code UserPrefStorage}.
+     * and {@code UserPrefStorage}, that saves data on the calling thread.
      */
     public StorageManager(EventStorage eventStorage, VolunteerStorage volunteerStorage,
                           UserPrefsStorage userPrefsStorage) {
+        this(eventStorage, volunteerStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code VolunteerStorage}, {@code EventStorage}
+     * and {@code UserPrefStorage}, that saves event and volunteer data in the background if
+     * {@code isSavingInBackground} is true.
+     */
+    public StorageManager(EventStorage eventStorage, VolunteerStorage volunteerStorage,
+                          UserPrefsStorage userPrefsStorage, boolean isSavingInBackground) {
         this.eventStorage = eventStorage;
         this.volunteerStorage = volunteerStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.writer = isSavingInBackground ? Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
     }
 
     // ================ UserPrefs methods ==============================
@@ -74,8 +109,18 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveEventStorage(ReadOnlyEventStorage newData, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        eventStorage.saveEventStorage(newData, filePath);
+        if (writer == null) {
+            logger.fine("Attempting to write to data file: " + filePath);
+            eventStorage.saveEventStorage(newData, filePath);
+            return;
+        }
+
+        // the model keeps changing while the writer thread saves, so the writer is given a copy
+        ReadOnlyEventStorage snapshot = new seedu.address.model.EventStorage(newData);
+        synchronized (pendingSavesLock) {
+            pendingEventSaves.put(filePath, snapshot);
+            scheduleWriter();
+        }
     }
 
     // ================ VolunteerStorage methods ==============================
@@ -103,8 +148,121 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveVolunteerStorage(ReadOnlyVolunteerStorage newData, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        volunteerStorage.saveVolunteerStorage(newData, filePath);
+        if (writer == null) {
+            logger.fine("Attempting to write to data file: " + filePath);
+            volunteerStorage.saveVolunteerStorage(newData, filePath);
+            return;
+        }
+
+        // the model keeps changing while the writer thread saves, so the writer is given a copy
+        ReadOnlyVolunteerStorage snapshot = new seedu.address.model.VolunteerStorage(newData);
+        synchronized (pendingSavesLock) {
+            pendingVolunteerSaves.put(filePath, snapshot);
+            scheduleWriter();
+        }
+    }
+
+    // ================ Background saving methods ==============================
+
+    @Override
+    public void checkBackgroundSaveError() throws IOException {
+        synchronized (pendingSavesLock) {
+            IOException error = backgroundSaveError;
+            backgroundSaveError = null;
+            if (error != null) {
+                throw error;
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (writer == null) {
+            return;
+        }
+
+        synchronized (pendingSavesLock) {
+            // retries the saves that failed, which are kept pending
+            if (!pendingEventSaves.isEmpty() || !pendingVolunteerSaves.isEmpty()) {
+                scheduleWriter();
+            }
+            while (isWriterScheduled) {
+                try {
+                    pendingSavesLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for data to be saved");
+                }
+            }
+        }
+        checkBackgroundSaveError();
+    }
+
+    /**
+     * Makes the writer thread save the pending data, if it is not already doing so.
+     * Must be called while holding {@code pendingSavesLock}.
+     */
+    private void scheduleWriter() {
+        assert Thread.holdsLock(pendingSavesLock);
+        if (!isWriterScheduled) {
+            isWriterScheduled = true;
+            writer.execute(this::writePendingSaves);
+        }
+    }
+
+    /**
+     * Saves the pending data one file at a time until there is none left, so that data saved in the meantime
+     * replaces the pending data instead of being queued behind it.
+     * Stops at the first error, keeping the failed data pending unless newer data for the same file was saved.
+     */
+    private void writePendingSaves() {
+        while (true) {
+            Map.Entry<Path, ReadOnlyVolunteerStorage> volunteerSave;
+            Map.Entry<Path, ReadOnlyEventStorage> eventSave;
+            synchronized (pendingSavesLock) {
+                volunteerSave = removeFirst(pendingVolunteerSaves);
+                eventSave = volunteerSave == null ? removeFirst(pendingEventSaves) : null;
+                if (volunteerSave == null && eventSave == null) {
+                    isWriterScheduled = false;
+                    pendingSavesLock.notifyAll();
+                    return;
+                }
+            }
+
+            try {
+                if (volunteerSave != null) {
+                    logger.fine("Attempting to write to data file: " + volunteerSave.getKey());
+                    volunteerStorage.saveVolunteerStorage(volunteerSave.getValue(), volunteerSave.getKey());
+                } else {
+                    logger.fine("Attempting to write to data file: " + eventSave.getKey());
+                    eventStorage.saveEventStorage(eventSave.getValue(), eventSave.getKey());
+                }
+            } catch (IOException e) {
+                logger.warning("Failed to save data in the background: " + e);
+                synchronized (pendingSavesLock) {
+                    if (volunteerSave != null) {
+                        pendingVolunteerSaves.putIfAbsent(volunteerSave.getKey(), volunteerSave.getValue());
+                    } else {
+                        pendingEventSaves.putIfAbsent(eventSave.getKey(), eventSave.getValue());
+                    }
+                    backgroundSaveError = e;
+                    isWriterScheduled = false;
+                    pendingSavesLock.notifyAll();
+                }
+                return;
+            }
+        }
+    }
+
+    private static <T> Map.Entry<Path, T> removeFirst(Map<Path, T> pendingSaves) {
+        Iterator<Map.Entry<Path, T>> iterator = pendingSaves.entrySet().iterator();
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        Map.Entry<Path, T> first = iterator.next();
+        Map.Entry<Path, T> removed = Map.entry(first.getKey(), first.getValue());
+        iterator.remove();
+        return removed;
     }
 
 }
@@ -106,7 +106,7 @@ public class JsonAdaptedEvent {
         if (!EventName.isValidEventName(eventName)) {
             throw new IllegalValueException(EventName.MESSAGE_CONSTRAINTS);
         }
-        final EventName modelName = new EventName(eventName);
+        final EventName modelName = EventName.of(eventName);
 
         final List<Role> eventRoles = new ArrayList<>();
         for (JsonAdaptedRole role : roles) {
@@ -0,0 +1,43 @@
+package seedu.address.storage.event;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.event.Event;
+import seedu.address.model.util.ListEdit;
+import seedu.address.storage.JsonAdaptedSplice;
+
+/**
+ * Jackson-friendly version of a {@link ListEdit} of the list of {@link Event}s.
+ */
+public class JsonAdaptedEventSplice extends JsonAdaptedSplice<JsonAdaptedEvent, Event> {
+
+    /**
+     * Constructs a {@code JsonAdaptedEventSplice} with the given splice details.
+     */
+    @JsonCreator
+    public JsonAdaptedEventSplice(@JsonProperty("from") int from,
+                                  @JsonProperty("removedCount") int removedCount,
+                                  @JsonProperty("added") List<JsonAdaptedEvent> added) {
+        super(from, removedCount, added);
+    }
+
+    /**
+     * Converts a given {@code ListEdit} into this class for Jackson use.
+     */
+    public JsonAdaptedEventSplice(ListEdit<Event> source) {
+        super(source.getFrom(), source.getRemoved().size(), source.getAdded().stream()
+                .map(JsonAdaptedEvent::new)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    protected Event toModelType(JsonAdaptedEvent element) throws IllegalValueException {
+        return element.toModelType();
+    }
+
+}
@@ -42,7 +42,7 @@ public class JsonAdaptedName {
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        return new Name(name);
+        return Name.of(name);
     }
 
 }
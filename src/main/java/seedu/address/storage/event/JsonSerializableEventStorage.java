@@ -1,17 +1,27 @@
 package seedu.address.storage.event;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.ParallelConverter;
 import seedu.address.model.EventStorage;
 import seedu.address.model.ReadOnlyEventStorage;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventName;
 
 /**
  * An Immutable Event Storage that is serializable to JSON format.
@@ -21,13 +31,18 @@ public class JsonSerializableEventStorage {
 
     public static final String MESSAGE_DUPLICATE_EVENT = "Events list contains duplicate event(s).";
 
+    public static final String EVENTS_FIELD = "events";
+
+    // the number of events converted together, which bounds how many are held in memory at once
+    private static final int CONVERSION_BATCH_SIZE = 4096;
+
     private final List<JsonAdaptedEvent> events = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonSerializableEventStorage} with the given events.
      */
     @JsonCreator
-    public JsonSerializableEventStorage(@JsonProperty("events") List<JsonAdaptedEvent> events) {
+    public JsonSerializableEventStorage(@JsonProperty(EVENTS_FIELD) List<JsonAdaptedEvent> events) {
         this.events.addAll(events);
     }
 
@@ -46,15 +61,80 @@ public class JsonSerializableEventStorage {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public EventStorage toModelType() throws IllegalValueException {
+        return toEventStorage(ParallelConverter.convertAll(events, JsonAdaptedEvent::toModelType));
+    }
+
+    /**
+     * Returns an {@code EventStorage} with the given {@code events}, in ascending order of their date and time.
+     *
+     * @throws IllegalValueException if {@code events} contains duplicate events.
+     */
+    public static EventStorage toEventStorage(List<Event> events) throws IllegalValueException {
+        checkUnique(events);
         EventStorage eventStorage = new EventStorage();
-        for (JsonAdaptedEvent jsonAdaptedEvent : events) {
-            Event event = jsonAdaptedEvent.toModelType();
-            if (eventStorage.hasEvent(event)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
+        eventStorage.setEvents(events);
+        return eventStorage;
+    }
+
+    /**
+     * Reads an event storage in the JSON format of this class from {@code parser}, converting the events into the
+     * model's {@code Event} objects in batches, so that the Jackson-friendly versions of all events are never held
+     * in memory at once. The events of each batch are converted in parallel.
+     *
+     * @throws IOException if the JSON data is not in the format of this class.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static EventStorage readModelType(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an event storage object");
+        }
+        List<Event> events = new ArrayList<>();
+        Set<EventName> names = new HashSet<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (fieldName.equals(EVENTS_FIELD)) {
+                JsonUtil.readJsonArray(parser, JsonAdaptedEvent.class, CONVERSION_BATCH_SIZE, batch -> {
+                    for (Event event : ParallelConverter.convertAll(batch, JsonAdaptedEvent::toModelType)) {
+                        if (!names.add(event.getEventName())) {
+                            throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
+                        }
+                        events.add(event);
+                    }
+                });
+            } else {
+                parser.skipChildren();
             }
-            eventStorage.addEvent(event);
         }
+        // the events are added at once, so that the list is only rebuilt once rather than for every event
+        EventStorage eventStorage = new EventStorage();
+        eventStorage.setEvents(events);
         return eventStorage;
     }
 
+    /**
+     * Writes {@code source} to {@code generator} in the JSON format of this class, converting the events into their
+     * Jackson-friendly versions one at a time.
+     */
+    public static void write(ReadOnlyEventStorage source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(EVENTS_FIELD);
+        JsonUtil.writeJsonArray(generator, source.getEventList(), JsonAdaptedEvent::new);
+        generator.writeEndObject();
+    }
+
+    /**
+     * Checks that no two of {@code events} have the same name.
+     *
+     * @throws IllegalValueException if {@code events} contains duplicate events.
+     */
+    private static void checkUnique(List<Event> events) throws IllegalValueException {
+        Set<EventName> names = new HashSet<>();
+        for (Event event : events) {
+            if (!names.add(event.getEventName())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
+            }
+        }
+    }
+
 }
@@ -42,7 +42,7 @@ public class JsonAdaptedEventName {
         if (!EventName.isValidEventName(eventName)) {
             throw new IllegalValueException(EventName.MESSAGE_CONSTRAINTS);
         }
-        return new EventName(eventName);
+        return EventName.of(eventName);
     }
 
 }
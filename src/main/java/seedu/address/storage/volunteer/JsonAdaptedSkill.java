@@ -42,7 +42,7 @@ public class JsonAdaptedSkill {
         if (!Skill.isValidSkillName(skillName)) {
             throw new IllegalValueException(Skill.MESSAGE_CONSTRAINTS);
         }
-        return new Skill(skillName);
+        return Skill.of(skillName);
     }
 
 }
@@ -0,0 +1,43 @@
+package seedu.address.storage.volunteer;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.util.ListEdit;
+import seedu.address.model.volunteer.Volunteer;
+import seedu.address.storage.JsonAdaptedSplice;
+
+/**
+ * Jackson-friendly version of a {@link ListEdit} of the list of {@link Volunteer}s.
+ */
+public class JsonAdaptedVolunteerSplice extends JsonAdaptedSplice<JsonAdaptedVolunteer, Volunteer> {
+
+    /**
+     * Constructs a {@code JsonAdaptedVolunteerSplice} with the given splice details.
+     */
+    @JsonCreator
+    public JsonAdaptedVolunteerSplice(@JsonProperty("from") int from,
+                                      @JsonProperty("removedCount") int removedCount,
+                                      @JsonProperty("added") List<JsonAdaptedVolunteer> added) {
+        super(from, removedCount, added);
+    }
+
+    /**
+     * Converts a given {@code ListEdit} into this class for Jackson use.
+     */
+    public JsonAdaptedVolunteerSplice(ListEdit<Volunteer> source) {
+        super(source.getFrom(), source.getRemoved().size(), source.getAdded().stream()
+                .map(JsonAdaptedVolunteer::new)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    protected Volunteer toModelType(JsonAdaptedVolunteer element) throws IllegalValueException {
+        return element.toModelType();
+    }
+
+}
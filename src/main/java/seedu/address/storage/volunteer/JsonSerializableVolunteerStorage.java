@@ -1,16 +1,26 @@
 package seedu.address.storage.volunteer;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.ParallelConverter;
 import seedu.address.model.ReadOnlyVolunteerStorage;
 import seedu.address.model.VolunteerStorage;
+import seedu.address.model.volunteer.Name;
 import seedu.address.model.volunteer.Volunteer;
 
 /**
@@ -21,13 +31,18 @@ public class JsonSerializableVolunteerStorage {
 
     public static final String MESSAGE_DUPLICATE_VOLUNTEER = "Volunteers list contains duplicate volunteer(s).";
 
+    public static final String VOLUNTEERS_FIELD = "volunteers";
+
+    // the number of volunteers converted together, which bounds how many are held in memory at once
+    private static final int CONVERSION_BATCH_SIZE = 4096;
+
     private final List<JsonAdaptedVolunteer> volunteers = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonSerializableVolunteerStorage} with the given volunteers.
      */
     @JsonCreator
-    public JsonSerializableVolunteerStorage(@JsonProperty("volunteers") List<JsonAdaptedVolunteer> volunteers) {
+    public JsonSerializableVolunteerStorage(@JsonProperty(VOLUNTEERS_FIELD) List<JsonAdaptedVolunteer> volunteers) {
         this.volunteers.addAll(volunteers);
     }
 
@@ -47,15 +62,80 @@ public class JsonSerializableVolunteerStorage {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public VolunteerStorage toModelType() throws IllegalValueException {
+        return toVolunteerStorage(ParallelConverter.convertAll(volunteers, JsonAdaptedVolunteer::toModelType));
+    }
+
+    /**
+     * Returns a {@code VolunteerStorage} with the given {@code volunteers}, in the same order.
+     *
+     * @throws IllegalValueException if {@code volunteers} contains duplicate volunteers.
+     */
+    public static VolunteerStorage toVolunteerStorage(List<Volunteer> volunteers) throws IllegalValueException {
+        checkUnique(volunteers);
         VolunteerStorage volunteerStorage = new VolunteerStorage();
-        for (JsonAdaptedVolunteer jsonAdaptedVolunteer : volunteers) {
-            Volunteer volunteer = jsonAdaptedVolunteer.toModelType();
-            if (volunteerStorage.hasVolunteer(volunteer)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_VOLUNTEER);
+        volunteerStorage.setVolunteers(volunteers);
+        return volunteerStorage;
+    }
+
+    /**
+     * Reads a volunteer storage in the JSON format of this class from {@code parser}, converting the volunteers into
+     * the model's {@code Volunteer} objects in batches, so that the Jackson-friendly versions of all volunteers are
+     * never held in memory at once. The volunteers of each batch are converted in parallel.
+     *
+     * @throws IOException if the JSON data is not in the format of this class.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static VolunteerStorage readModelType(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a volunteer storage object");
+        }
+        List<Volunteer> volunteers = new ArrayList<>();
+        Set<Name> names = new HashSet<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (fieldName.equals(VOLUNTEERS_FIELD)) {
+                JsonUtil.readJsonArray(parser, JsonAdaptedVolunteer.class, CONVERSION_BATCH_SIZE, batch -> {
+                    for (Volunteer volunteer : ParallelConverter.convertAll(batch, JsonAdaptedVolunteer::toModelType)) {
+                        if (!names.add(volunteer.getName())) {
+                            throw new IllegalValueException(MESSAGE_DUPLICATE_VOLUNTEER);
+                        }
+                        volunteers.add(volunteer);
+                    }
+                });
+            } else {
+                parser.skipChildren();
             }
-            volunteerStorage.addVolunteer(volunteer);
         }
+        // the volunteers are added at once, so that the list is only rebuilt once rather than for every volunteer
+        VolunteerStorage volunteerStorage = new VolunteerStorage();
+        volunteerStorage.setVolunteers(volunteers);
         return volunteerStorage;
     }
 
+    /**
+     * Writes {@code source} to {@code generator} in the JSON format of this class, converting the volunteers into
+     * their Jackson-friendly versions one at a time.
+     */
+    public static void write(ReadOnlyVolunteerStorage source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(VOLUNTEERS_FIELD);
+        JsonUtil.writeJsonArray(generator, source.getVolunteerList(), JsonAdaptedVolunteer::new);
+        generator.writeEndObject();
+    }
+
+    /**
+     * Checks that no two of {@code volunteers} have the same name.
+     *
+     * @throws IllegalValueException if {@code volunteers} contains duplicate volunteers.
+     */
+    private static void checkUnique(List<Volunteer> volunteers) throws IllegalValueException {
+        Set<Name> names = new HashSet<>();
+        for (Volunteer volunteer : volunteers) {
+            if (!names.add(volunteer.getName())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_VOLUNTEER);
+            }
+        }
+    }
+
 }
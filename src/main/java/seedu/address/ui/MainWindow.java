@@ -5,6 +5,7 @@ import java.util.logging.Logger;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextInputControl;
 import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
@@ -24,6 +25,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_LOADING = "Loading data...";
+    private static final String MESSAGE_WAITING_FOR_INPUT = "Waiting for your inputs! :)";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -56,23 +59,22 @@ public class MainWindow extends UiPart<Stage> {
     private StackPane statusbarPlaceholder;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage}, sized according to {@code guiSettings}.
+     * The parts of the window that show data are only filled in once the data is loaded, by
+     * {@link #fillDataParts(Logic)}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, GuiSettings guiSettings) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
-        this.logic = logic;
 
         // Configure the UI
-        setWindowDefaultSize(logic.getGuiSettings());
+        setWindowDefaultSize(guiSettings);
 
         setAccelerators();
 
         helpWindow = new HelpWindow();
-        logger.info("eventToShow list: " + logic.getEventToShowList().toString());
-        eventShowWindow = new EventShowWindow(logic.getEventToShowList());
     }
 
     public Stage getPrimaryStage() {
@@ -116,18 +118,35 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Fills up all the placeholders of this window.
+     * Fills up the placeholders of this window that do not depend on the data, and shows progress indicators in place
+     * of the list panels until the data is loaded.
      */
     void fillInnerParts() {
+        volunteerListPanelPlaceholder.getChildren().add(new ProgressIndicator());
+        eventListPanelPlaceholder.getChildren().add(new ProgressIndicator());
+
+        resultDisplay = new ResultDisplay();
+        resultDisplay.setFeedbackToUser(MESSAGE_LOADING);
+        resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+    }
+
+    /**
+     * Fills up the remaining placeholders of this window with the data of {@code logic}, which is only available once
+     * the data is loaded, and lets the user enter commands.
+     */
+    void fillDataParts(Logic logic) {
+        this.logic = logic;
+
+        logger.info("eventToShow list: " + logic.getEventToShowList().toString());
+        eventShowWindow = new EventShowWindow(logic.getEventToShowList());
+
         volunteerListPanel = new VolunteerListPanel(logic.getFilteredVolunteerList());
-        volunteerListPanelPlaceholder.getChildren().add(volunteerListPanel.getRoot());
+        volunteerListPanelPlaceholder.getChildren().setAll(volunteerListPanel.getRoot());
 
         eventListPanel = new EventListPanel(logic.getFilteredEventList());
-        eventListPanelPlaceholder.getChildren().add(eventListPanel.getRoot());
+        eventListPanelPlaceholder.getChildren().setAll(eventListPanel.getRoot());
 
-        resultDisplay = new ResultDisplay();
-        resultDisplay.setFeedbackToUser("Waiting for your inputs! :)");
-        resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        resultDisplay.setFeedbackToUser(MESSAGE_WAITING_FOR_INPUT);
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getVolunteerStorageFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -187,11 +206,14 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     private void handleExit() {
-        GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
-                (int) primaryStage.getX(), (int) primaryStage.getY());
-        logic.setGuiSettings(guiSettings);
+        // the window can be closed before the data is loaded, in which case there are no settings to update yet
+        if (logic != null) {
+            GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
+                    (int) primaryStage.getX(), (int) primaryStage.getY());
+            logic.setGuiSettings(guiSettings);
+            eventShowWindow.hide();
+        }
         helpWindow.hide();
-        eventShowWindow.hide();
         primaryStage.hide();
     }
 
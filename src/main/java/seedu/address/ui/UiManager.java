@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -8,6 +9,7 @@ import javafx.scene.control.Alert.AlertType;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import seedu.address.MainApp;
+import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
@@ -22,14 +24,17 @@ public class UiManager implements Ui {
     private static final Logger logger = LogsCenter.getLogger(UiManager.class);
     private static final String ICON_APPLICATION = "/images/iVolunteer.png";
 
-    private Logic logic;
+    private CompletableFuture<Logic> logicLoading;
+    private GuiSettings guiSettings;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the {@code Logic} that {@code logicLoading} completes with once the data is
+     * loaded, and the {@code guiSettings} to show the main window with in the meantime.
      */
-    public UiManager(Logic logic) {
-        this.logic = logic;
+    public UiManager(CompletableFuture<Logic> logicLoading, GuiSettings guiSettings) {
+        this.logicLoading = logicLoading;
+        this.guiSettings = guiSettings;
     }
 
     @Override
@@ -40,14 +45,27 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, guiSettings);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
             showFatalErrorDialogAndShutdown("Fatal error during initializing", e);
+            return;
         }
+
+        logicLoading.whenComplete((logic, loadingError) -> Platform.runLater(() -> {
+            try {
+                if (loadingError != null) {
+                    throw loadingError;
+                }
+                mainWindow.fillDataParts(logic);
+            } catch (Throwable e) {
+                logger.severe(StringUtil.getDetails(e));
+                showFatalErrorDialogAndShutdown("Fatal error during loading data", e);
+            }
+        }));
     }
 
     private Image getImage(String imagePath) {
@@ -0,0 +1,102 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+public class InternPoolTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new InternPool<String, String>(null, Function.identity()));
+        assertThrows(NullPointerException.class, () -> new InternPool<String, String>(Function.identity(), null));
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> InternPool.ofStrings().intern(null));
+    }
+
+    @Test
+    public void intern_equalKeys_returnsSameValue() {
+        InternPool<String, String> pool = InternPool.ofStrings();
+        String first = new String("chef");
+        String second = new String("chef");
+        assertNotSame(first, second);
+
+        assertSame(first, pool.intern(first));
+        assertSame(first, pool.intern(second));
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void intern_keyInPool_doesNotCreateValue() {
+        List<String> created = new ArrayList<>();
+        InternPool<String, String> pool = new InternPool<>(key -> {
+            created.add(key);
+            return new String(key);
+        }, Function.identity());
+
+        String value = pool.intern("chef");
+        assertSame(value, pool.intern("chef"));
+        assertEquals(List.of("chef"), created);
+    }
+
+    @Test
+    public void intern_factoryThrows_throwsAndAddsNothing() {
+        InternPool<String, String> pool = new InternPool<>(key -> {
+            throw new IllegalArgumentException();
+        }, Function.identity());
+        assertThrows(IllegalArgumentException.class, () -> pool.intern("chef"));
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void intern_manyThreads_allReturnSameValues() throws Exception {
+        InternPool<String, String> pool = new InternPool<>(String::new, Function.identity());
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            keys.add("skill" + i);
+        }
+        int threadCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    List<String> values = new ArrayList<>();
+                    for (String key : keys) {
+                        values.add(pool.intern(new String(key)));
+                    }
+                    return values;
+                }));
+            }
+            start.countDown();
+
+            List<String> expected = results.get(0).get();
+            for (Future<List<String>> result : results) {
+                List<String> values = result.get();
+                for (int i = 0; i < keys.size(); i++) {
+                    assertSame(expected.get(i), values.get(i));
+                }
+            }
+            assertEquals(keys, expected);
+            assertEquals(keys.size(), pool.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelConverterTest {
+
+    private static final ParallelConverter.Conversion<Integer, String> FAIL_ON_NEGATIVE = element -> {
+        if (element < 0) {
+            throw new IllegalValueException("Negative " + element);
+        }
+        return String.valueOf(element);
+    };
+
+    @Test
+    public void convertAll_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParallelConverter.convertAll(null, FAIL_ON_NEGATIVE));
+        assertThrows(NullPointerException.class, () -> ParallelConverter.convertAll(List.of(1), null));
+    }
+
+    @Test
+    public void convertAll_emptyList_returnsEmptyList() throws Exception {
+        assertEquals(List.of(), ParallelConverter.convertAll(List.<Integer>of(), FAIL_ON_NEGATIVE));
+    }
+
+    @Test
+    public void convertAll_shortList_returnsResultsInOrder() throws Exception {
+        assertEquals(List.of("3", "1", "2"), ParallelConverter.convertAll(List.of(3, 1, 2), FAIL_ON_NEGATIVE));
+    }
+
+    @Test
+    public void convertAll_longList_returnsResultsInOrder() throws Exception {
+        List<Integer> elements = range(ParallelConverter.SEQUENTIAL_THRESHOLD * 10);
+        List<String> expected = elements.stream().map(String::valueOf).collect(Collectors.toList());
+        assertEquals(expected, ParallelConverter.convertAll(elements, FAIL_ON_NEGATIVE));
+    }
+
+    @Test
+    public void convertAll_longListWithFailures_throwsFirstFailureInOrder() {
+        int size = ParallelConverter.SEQUENTIAL_THRESHOLD * 10;
+        List<Integer> elements = new ArrayList<>(range(size));
+        elements.set(size - 1, -3);
+        elements.set(size / 2, -2);
+        elements.set(1, -1);
+
+        for (int attempt = 0; attempt < 5; attempt++) {
+            IllegalValueException failure = Assertions.assertThrows(IllegalValueException.class, () ->
+                    ParallelConverter.convertAll(elements, FAIL_ON_NEGATIVE));
+            assertEquals("Negative -1", failure.getMessage());
+            assertArrayEquals(new String[] {"Negative -2", "Negative -3"}, Arrays.stream(failure.getSuppressed())
+                    .map(Throwable::getMessage).toArray());
+        }
+    }
+
+    private static List<Integer> range(int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+}
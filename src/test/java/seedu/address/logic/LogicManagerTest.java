@@ -1,5 +1,6 @@
 package seedu.address.logic;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_EVENT_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_VOLUNTEER_DISPLAYED_INDEX;
@@ -93,6 +94,39 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_unchangedStorage_skipsSavingUnchangedStorage() throws Exception {
+        int[] saveCounts = new int[2];
+        JsonEventStorage eventStorage = new JsonEventStorage(temporaryFolder.resolve("eventStorage.json")) {
+            @Override
+            public void saveEventStorage(ReadOnlyEventStorage eventStorage, Path filePath) throws IOException {
+                saveCounts[0]++;
+                super.saveEventStorage(eventStorage, filePath);
+            }
+        };
+        JsonVolunteerStorage volunteerStorage =
+                new JsonVolunteerStorage(temporaryFolder.resolve("volunteerStorage.json")) {
+                    @Override
+                    public void saveVolunteerStorage(ReadOnlyVolunteerStorage volunteerStorage, Path filePath)
+                            throws IOException {
+                        saveCounts[1]++;
+                        super.saveVolunteerStorage(volunteerStorage, filePath);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(eventStorage, volunteerStorage, userPrefsStorage));
+
+        // storages that were never saved are saved by the first command
+        logic.execute(VolunteerListCommand.COMMAND_WORD);
+        assertArrayEquals(new int[] {1, 1}, saveCounts);
+
+        logic.execute(EventListCommand.COMMAND_WORD);
+        assertArrayEquals(new int[] {1, 1}, saveCounts);
+
+        logic.execute(VolunteerCreateCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY);
+        assertArrayEquals(new int[] {1, 2}, saveCounts);
+    }
+
     @Test
     public void getFilteredVolunteerList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredVolunteerList().remove(0));
@@ -87,7 +87,8 @@ public class EventFindCommandTest {
         EventFindCommand command = new EventFindCommand(predicate);
         expectedModel.updateFilteredEventList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
-        assertEquals(Arrays.asList(FIRST, SECOND, THIRD, FOURTH, FIFTH, SIXTH, SEVENTH),
+        // events are listed in order of their start and end dates
+        assertEquals(Arrays.asList(FIRST, FIFTH, SIXTH, SEVENTH, SECOND, FOURTH, THIRD),
                 model.getFilteredEventList());
     }
 
@@ -10,6 +10,7 @@ import static seedu.address.testutil.TypicalVolunteers.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -29,6 +30,8 @@ import seedu.address.model.VersionedEventStorage;
 import seedu.address.model.VersionedVolunteerStorage;
 import seedu.address.model.VolunteerStorage;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventNameContainsKeywordsPredicate;
+import seedu.address.model.volunteer.SkillNameContainsKeywordsPredicate;
 import seedu.address.model.volunteer.Volunteer;
 import seedu.address.testutil.VolunteerBuilder;
 
@@ -211,6 +214,16 @@ public class VolunteerCreateCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void findVolunteers(SkillNameContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void findEvents(EventNameContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredEventList(Predicate<Event> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -252,13 +265,33 @@ public class VolunteerCreateCommandTest {
             throw new AssertionError("This method should not be called");
         }
 
+        @Override
+        public long getVersionHistoryMemoryFootprint() {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public List<Event> getEventsAssignedTo(Volunteer volunteer) {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public List<Volunteer> getVolunteersAssignedTo(Event event) {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public List<Event> getClashingAssignedEvents(Volunteer volunteer, Event event) {
+            throw new AssertionError("This method should not be called");
+        }
+
         @Override
         public Event updateEventRoleQuantities(Event event) {
             throw new AssertionError("This method should not be called");
         }
 
         @Override
-        public void updateAllEventRoleQuantities() {
+        public void updateAssignedEventRoleQuantities(Volunteer target, Volunteer editedVolunteer) {
             throw new AssertionError("This method should not be called");
         }
     }
@@ -16,6 +16,9 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
 import static seedu.address.testutil.TypicalVolunteers.getTypicalVolunteerStorage;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -28,8 +31,11 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.VolunteerStorage;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.Role;
 import seedu.address.model.volunteer.Volunteer;
 import seedu.address.testutil.EditVolunteerDescriptorBuilder;
+import seedu.address.testutil.EventBuilder;
 import seedu.address.testutil.VolunteerBuilder;
 
 /**
@@ -88,6 +94,24 @@ public class VolunteerEditCommandTest {
         assertCommandSuccess(volunteerEditCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_skillsOfAssignedVolunteerEdited_updatesAssignedEventRoles() throws Exception {
+        Model model = new ModelManager();
+        Volunteer volunteer = new VolunteerBuilder().withSkills("cleaner").build();
+        Event event = new EventBuilder().withRoles("2 cleaner", "1 cook").build().addVolunteer(volunteer);
+        Event otherEvent = new EventBuilder().withEventName("Other event").withRoles("2 cleaner").build();
+        model.addEvent(event);
+        model.addEvent(otherEvent);
+        model.addVolunteer(volunteer.addEvent(event));
+
+        new VolunteerEditCommand(INDEX_FIRST, new EditVolunteerDescriptorBuilder().withSkills("cook").build())
+                .execute(model);
+
+        assertEquals(Set.of(new Role("cleaner", 0, 2), new Role("cook", 1, 1)),
+                new HashSet<>(model.getEventStorage().getEvent(event.getEventName()).getRoles()));
+        assertEquals(otherEvent, model.getEventStorage().getEvent(otherEvent.getEventName()));
+    }
+
     @Test
     public void execute_duplicateVolunteerUnfilteredList_failure() {
         Volunteer firstVolunteer = model.getFilteredVolunteerList().get(INDEX_FIRST.getZeroBased());
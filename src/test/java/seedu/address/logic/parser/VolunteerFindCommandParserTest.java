@@ -66,4 +66,12 @@ public class VolunteerFindCommandParserTest {
         // no prefixes given in user input
         assertThrows(ParseException.class, () -> preparePredicate(" "));
     }
+
+    @Test
+    public void parse_multipleWordSkill_throwsParseException() {
+        assertParseFailure(parser, " s/first aid", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                VolunteerFindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " n/Alice s/chef s/first aid", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                VolunteerFindCommand.MESSAGE_USAGE));
+    }
 }
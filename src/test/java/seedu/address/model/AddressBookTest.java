@@ -113,6 +113,11 @@ public class AddressBookTest {
         public ObservableList<Volunteer> getVolunteerList() {
             return volunteers;
         }
+
+        @Override
+        public long getModificationCount() {
+            return 0;
+        }
     }
 
 }
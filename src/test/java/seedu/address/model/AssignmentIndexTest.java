@@ -0,0 +1,222 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventName;
+import seedu.address.model.util.ListChangeRecorder;
+import seedu.address.model.util.ListEdit;
+import seedu.address.model.volunteer.Name;
+import seedu.address.model.volunteer.Volunteer;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.VolunteerBuilder;
+
+public class AssignmentIndexTest {
+
+    private final EventStorage eventStorage = new EventStorage();
+    private final VolunteerStorage volunteerStorage = new VolunteerStorage();
+    private final ListChangeRecorder<Event> eventRecorder = new ListChangeRecorder<>();
+    private final ListChangeRecorder<Volunteer> volunteerRecorder = new ListChangeRecorder<>();
+
+    private Event morning;
+    private Event noon;
+    private Event evening;
+    private Volunteer alice;
+    private Volunteer bob;
+    private AssignmentIndex assignmentIndex;
+
+    @BeforeEach
+    public void setUp() {
+        Volunteer unassignedAlice = new VolunteerBuilder().withName("Alice").withPhone("91111111")
+                .withEmail("alice@example.com").build();
+        Volunteer unassignedBob = new VolunteerBuilder().withName("Bob").withPhone("92222222")
+                .withEmail("bob@example.com").build();
+        morning = new EventBuilder().withEventName("Morning").withStartDate("23/10/2023 0800")
+                .withEndDate("23/10/2023 1200").build().addVolunteer(unassignedAlice).addVolunteer(unassignedBob);
+        noon = new EventBuilder().withEventName("Noon").withStartDate("23/10/2023 1200")
+                .withEndDate("23/10/2023 1400").build().addVolunteer(unassignedAlice);
+        evening = new EventBuilder().withEventName("Evening").withStartDate("23/10/2023 1800")
+                .withEndDate("23/10/2023 2000").build().addVolunteer(unassignedBob);
+        alice = unassignedAlice.addEvent(morning).addEvent(noon);
+        bob = unassignedBob.addEvent(morning).addEvent(evening);
+
+        eventStorage.setEvents(List.of(morning, noon, evening));
+        volunteerStorage.setVolunteers(List.of(alice, bob));
+        assignmentIndex = new AssignmentIndex(eventStorage.getEventList(), volunteerStorage.getVolunteerList());
+        eventStorage.getEventList().addListener(eventRecorder);
+        volunteerStorage.getVolunteerList().addListener(volunteerRecorder);
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AssignmentIndex(null, null));
+    }
+
+    @Test
+    public void getAssignedTo_initialLists_indexesBothSides() {
+        assertEquals(Set.of(morning.getEventName(), noon.getEventName()),
+                assignmentIndex.getEventsAssignedTo(alice.getName()));
+        assertEquals(Set.of(alice.getName(), bob.getName()),
+                assignmentIndex.getVolunteersAssignedTo(morning.getEventName()));
+        assertEquals(List.of(morning.getEventName(), noon.getEventName()),
+                assignmentIndex.getAssignedEventsOverlapping(alice.getName(), noon));
+        assertIndexConsistent();
+    }
+
+    @Test
+    public void setVolunteer_renamedVolunteer_movesAssignmentsToNewName() {
+        Volunteer renamedAlice = new Volunteer(new Name("Alicia"), alice.getPhone(), alice.getEmail(),
+                alice.getSkills(), alice.getAssignedEvents());
+        volunteerStorage.setVolunteer(alice, renamedAlice);
+
+        assertEquals(Set.of(renamedAlice.getName(), bob.getName()),
+                assignmentIndex.getVolunteersAssignedTo(morning.getEventName()));
+        assertEquals(List.of(), assignmentIndex.getAssignedEventsOverlapping(alice.getName(), noon));
+        assertEquals(List.of(morning.getEventName(), noon.getEventName()),
+                assignmentIndex.getAssignedEventsOverlapping(renamedAlice.getName(), noon));
+        assertIndexConsistent();
+    }
+
+    @Test
+    public void setEvent_renamedAndRescheduledEvent_updatesSchedules() {
+        Event lateMorning = new Event(new EventName("Late Morning"), morning.getRoles(),
+                new EventBuilder().withStartDate("23/10/2023 1500").build().getStartDate(),
+                new EventBuilder().withEndDate("23/10/2023 1900").build().getEndDate(), morning.getLocation(),
+                morning.getDescription(), morning.getMaterials(), morning.getBudget(),
+                morning.getAssignedVolunteers(), morning.getMaxVolunteerSize());
+        eventStorage.setEvent(morning, lateMorning);
+
+        // the volunteers still list the old name, so the renamed event is no longer on their schedules
+        assertEquals(Set.of(lateMorning.getEventName(), evening.getEventName()),
+                assignmentIndex.getEventsAssignedTo(bob.getName()));
+        assertEquals(List.of(evening.getEventName()),
+                assignmentIndex.getAssignedEventsOverlapping(bob.getName(), lateMorning));
+        assertIndexConsistent();
+
+        Volunteer reassignedBob = bob.removeEvent(morning).addEvent(lateMorning);
+        volunteerStorage.setVolunteer(bob, reassignedBob);
+        assertEquals(List.of(lateMorning.getEventName(), evening.getEventName()),
+                assignmentIndex.getAssignedEventsOverlapping(bob.getName(), evening));
+        assertEquals(List.of(), assignmentIndex.getAssignedEventsOverlapping(bob.getName(), morning));
+        assertIndexConsistent();
+    }
+
+    @Test
+    public void setEvent_rescheduledEvent_movesEventOnSchedules() {
+        Event rescheduledNoon = new EventBuilder(noon).withStartDate("23/10/2023 1300")
+                .withEndDate("23/10/2023 1500").build();
+        eventStorage.setEvent(noon, rescheduledNoon);
+
+        assertEquals(List.of(), assignmentIndex.getAssignedEventsOverlapping(alice.getName(),
+                new EventBuilder().withStartDate("23/10/2023 1215").withEndDate("23/10/2023 1245").build()));
+        assertEquals(List.of(noon.getEventName()),
+                assignmentIndex.getAssignedEventsOverlapping(alice.getName(), rescheduledNoon));
+        assertIndexConsistent();
+    }
+
+    @Test
+    public void remove_eventAndVolunteer_dropsTheirAssignments() {
+        eventStorage.removeEvent(morning);
+        assertEquals(Set.of(evening.getEventName()), assignmentIndex.getEventsAssignedTo(bob.getName()));
+        assertEquals(List.of(noon.getEventName()),
+                assignmentIndex.getAssignedEventsOverlapping(alice.getName(), morning));
+        assertIndexConsistent();
+
+        volunteerStorage.removeVolunteer(alice);
+        assertEquals(Set.of(), assignmentIndex.getVolunteersAssignedTo(noon.getEventName()));
+        assertEquals(List.of(), assignmentIndex.getAssignedEventsOverlapping(alice.getName(), noon));
+        assertIndexConsistent();
+    }
+
+    @Test
+    public void applyEdit_undoAndRedoRecordedEdits_restoresIndex() {
+        Set<EventName> aliceEventsBefore = assignmentIndex.getEventsAssignedTo(alice.getName());
+        List<EventName> aliceScheduleBefore = assignmentIndex.getAssignedEventsOverlapping(alice.getName(), noon);
+
+        Volunteer renamedAlice = new Volunteer(new Name("Alicia"), alice.getPhone(), alice.getEmail(),
+                alice.getSkills(), alice.getAssignedEvents());
+        volunteerStorage.setVolunteer(alice, renamedAlice);
+        volunteerStorage.removeVolunteer(bob);
+        eventStorage.setEvent(noon, new EventBuilder(noon).withStartDate("23/10/2023 1900")
+                .withEndDate("23/10/2023 2100").build());
+        eventStorage.removeEvent(morning);
+        List<ListEdit<Event>> eventEdits = eventRecorder.drain();
+        List<ListEdit<Volunteer>> volunteerEdits = volunteerRecorder.drain();
+        Set<Name> eveningVolunteersAfter = assignmentIndex.getVolunteersAssignedTo(evening.getEventName());
+        List<EventName> renamedScheduleAfter =
+                assignmentIndex.getAssignedEventsOverlapping(renamedAlice.getName(), evening);
+        assertIndexConsistent();
+
+        for (int i = volunteerEdits.size() - 1; i >= 0; i--) {
+            volunteerStorage.applyEdit(volunteerEdits.get(i).inverse());
+        }
+        for (int i = eventEdits.size() - 1; i >= 0; i--) {
+            eventStorage.applyEdit(eventEdits.get(i).inverse());
+        }
+        assertEquals(aliceEventsBefore, assignmentIndex.getEventsAssignedTo(alice.getName()));
+        assertEquals(aliceScheduleBefore, assignmentIndex.getAssignedEventsOverlapping(alice.getName(), noon));
+        assertEquals(Set.of(bob.getName()), assignmentIndex.getVolunteersAssignedTo(evening.getEventName()));
+        assertIndexConsistent();
+
+        volunteerEdits.forEach(volunteerStorage::applyEdit);
+        eventEdits.forEach(eventStorage::applyEdit);
+        assertEquals(eveningVolunteersAfter, assignmentIndex.getVolunteersAssignedTo(evening.getEventName()));
+        assertEquals(renamedScheduleAfter,
+                assignmentIndex.getAssignedEventsOverlapping(renamedAlice.getName(), evening));
+        assertIndexConsistent();
+    }
+
+    /**
+     * Asserts that the index agrees with a scan of the event and volunteer lists for every event and volunteer.
+     */
+    private void assertIndexConsistent() {
+        List<Event> events = eventStorage.getEventList();
+        List<Volunteer> volunteers = volunteerStorage.getVolunteerList();
+        Set<Name> volunteerNames = new HashSet<>();
+        events.forEach(event -> volunteerNames.addAll(event.getAssignedVolunteers()));
+        volunteers.forEach(volunteer -> volunteerNames.add(volunteer.getName()));
+
+        for (Name volunteerName : volunteerNames) {
+            Set<EventName> expectedEvents = events.stream()
+                    .filter(event -> event.getAssignedVolunteers().contains(volunteerName))
+                    .map(Event::getEventName)
+                    .collect(Collectors.toSet());
+            assertEquals(expectedEvents, assignmentIndex.getEventsAssignedTo(volunteerName));
+
+            Set<EventName> listedEvents = volunteers.stream()
+                    .filter(volunteer -> volunteer.getName().equals(volunteerName))
+                    .flatMap(volunteer -> volunteer.getAssignedEvents().stream())
+                    .collect(Collectors.toSet());
+            for (Event event : events) {
+                Set<EventName> expectedOverlapping = events.stream()
+                        .filter(other -> listedEvents.contains(other.getEventName()) && isOverlapping(event, other))
+                        .map(Event::getEventName)
+                        .collect(Collectors.toSet());
+                assertEquals(expectedOverlapping,
+                        new HashSet<>(assignmentIndex.getAssignedEventsOverlapping(volunteerName, event)));
+            }
+        }
+
+        for (Event event : events) {
+            Set<Name> expectedVolunteers = volunteers.stream()
+                    .filter(volunteer -> volunteer.getAssignedEvents().contains(event.getEventName()))
+                    .map(Volunteer::getName)
+                    .collect(Collectors.toSet());
+            assertEquals(expectedVolunteers, assignmentIndex.getVolunteersAssignedTo(event.getEventName()));
+        }
+    }
+
+    private static boolean isOverlapping(Event event, Event other) {
+        return event.getStartDate().toEpochMinute() <= other.getEndDate().toEpochMinute()
+                && other.getStartDate().toEpochMinute() <= event.getEndDate().toEpochMinute();
+    }
+}
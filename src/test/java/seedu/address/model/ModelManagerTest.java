@@ -15,6 +15,7 @@ import static seedu.address.testutil.TypicalVolunteers.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -25,6 +26,8 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.event.Event;
 import seedu.address.model.volunteer.SkillNameContainsKeywordsPredicate;
+import seedu.address.model.volunteer.Volunteer;
+import seedu.address.testutil.EventBuilder;
 import seedu.address.testutil.TypicalEvents;
 import seedu.address.testutil.VolunteerStorageBuilder;
 
@@ -145,6 +148,145 @@ public class ModelManagerTest {
         assertEquals(versionedVolunteerStorage.getVersionedVolunteersSize(), 2);
     }
 
+    @Test
+    public void commitToBothVersionedStorages_exceedsUndoHistoryLimit_discardsOldestStates() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryLimit(2);
+        modelManager.setUserPrefs(userPrefs);
+        for (int i = 0; i < 5; i++) {
+            modelManager.commitToBothVersionedStorages(modelManager.getEventStorage(),
+                    modelManager.getVolunteerStorage());
+        }
+        VersionedEventStorage versionedEventStorage = modelManager.getVersionedEventStorage();
+        VersionedVolunteerStorage versionedVolunteerStorage = modelManager.getVersionedVolunteerStorage();
+
+        assertEquals(3, versionedEventStorage.getVersionedEventsSize());
+        assertEquals(2, versionedEventStorage.getCurrentStatePointer());
+        assertEquals(3, versionedVolunteerStorage.getVersionedVolunteersSize());
+        assertEquals(2, versionedVolunteerStorage.getCurrentStatePointer());
+    }
+
+    @Test
+    public void commitToBothVersionedStorages_exceedsUndoHistoryMemoryBudget_keepsCurrentStateOnly() {
+        modelManager.addVolunteer(ALICE);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryMemoryBudget(0);
+        modelManager.setUserPrefs(userPrefs);
+        modelManager.commitToBothVersionedStorages(modelManager.getEventStorage(), modelManager.getVolunteerStorage());
+
+        assertEquals(1, modelManager.getVersionedEventStorage().getVersionedEventsSize());
+        assertEquals(0, modelManager.getVersionedVolunteerStorage().getCurrentStatePointer());
+        assertThrows(CommandException.class, () -> modelManager.undoBothStorages());
+    }
+
+    @Test
+    public void undoAndRedoBothStorages_multipleCommits_restoresEachState() throws CommandException {
+        modelManager.addVolunteer(ALICE);
+        modelManager.addEvent(TypicalEvents.SECOND);
+        modelManager.commitToBothVersionedStorages(modelManager.getEventStorage(), modelManager.getVolunteerStorage());
+        ModelManager afterAdd = copyOf(modelManager);
+
+        modelManager.addEvent(FIRST);
+        modelManager.setVolunteer(ALICE, BENSON);
+        modelManager.commitToBothVersionedStorages(modelManager.getEventStorage(), modelManager.getVolunteerStorage());
+        ModelManager afterEdit = copyOf(modelManager);
+
+        modelManager.deleteEvent(TypicalEvents.SECOND);
+        modelManager.deleteVolunteer(BENSON);
+        modelManager.commitToBothVersionedStorages(modelManager.getEventStorage(), modelManager.getVolunteerStorage());
+        ModelManager afterDelete = copyOf(modelManager);
+
+        modelManager.undoBothStorages();
+        assertEquals(afterEdit, modelManager);
+        modelManager.undoBothStorages();
+        assertEquals(afterAdd, modelManager);
+        modelManager.undoBothStorages();
+        assertEquals(new ModelManager(), modelManager);
+
+        modelManager.redoBothStorages();
+        assertEquals(afterAdd, modelManager);
+        modelManager.redoBothStorages();
+        assertEquals(afterEdit, modelManager);
+        modelManager.redoBothStorages();
+        assertEquals(afterDelete, modelManager);
+    }
+
+    @Test
+    public void undoBothStorages_uncommittedChanges_restoresPreviousState() throws CommandException {
+        modelManager.addVolunteer(ALICE);
+        modelManager.commitToBothVersionedStorages(modelManager.getEventStorage(), modelManager.getVolunteerStorage());
+        ModelManager afterAdd = copyOf(modelManager);
+
+        modelManager.deleteVolunteer(ALICE);
+        modelManager.commitToBothVersionedStorages(modelManager.getEventStorage(), modelManager.getVolunteerStorage());
+        modelManager.addVolunteer(BENSON);
+
+        modelManager.undoBothStorages();
+        assertEquals(afterAdd, modelManager);
+    }
+
+    @Test
+    public void getAssignedTo_assignmentsChanged_followsChanges() throws CommandException {
+        Event event = TypicalEvents.SECOND.addVolunteer(ALICE);
+        Volunteer volunteer = ALICE.addEvent(TypicalEvents.SECOND);
+        modelManager.addEvent(event);
+        modelManager.addEvent(FIRST);
+        modelManager.addVolunteer(volunteer);
+        modelManager.addVolunteer(BENSON);
+        modelManager.commitToBothVersionedStorages(modelManager.getEventStorage(), modelManager.getVolunteerStorage());
+
+        assertEquals(List.of(event), modelManager.getEventsAssignedTo(volunteer));
+        assertEquals(List.of(volunteer), modelManager.getVolunteersAssignedTo(event));
+        assertEquals(List.of(), modelManager.getEventsAssignedTo(BENSON));
+        assertEquals(List.of(), modelManager.getVolunteersAssignedTo(FIRST));
+
+        Event eventWithoutVolunteer = event.removeVolunteer(volunteer);
+        modelManager.setEvent(event, eventWithoutVolunteer);
+        modelManager.deleteVolunteer(volunteer);
+        modelManager.commitToBothVersionedStorages(modelManager.getEventStorage(), modelManager.getVolunteerStorage());
+        assertEquals(List.of(), modelManager.getEventsAssignedTo(volunteer));
+        assertEquals(List.of(), modelManager.getVolunteersAssignedTo(eventWithoutVolunteer));
+
+        modelManager.undoBothStorages();
+        assertEquals(List.of(event), modelManager.getEventsAssignedTo(volunteer));
+        assertEquals(List.of(volunteer), modelManager.getVolunteersAssignedTo(event));
+    }
+
+    @Test
+    public void getClashingAssignedEvents_eventTimesChanged_followsChanges() {
+        Event morning = new EventBuilder().withEventName("Morning").withStartDate("23/10/2023 0800")
+                .withEndDate("23/10/2023 1200").build();
+        Event evening = new EventBuilder().withEventName("Evening").withStartDate("23/10/2023 1800")
+                .withEndDate("23/10/2023 2100").build();
+        Event noon = new EventBuilder().withEventName("Noon").withStartDate("23/10/2023 1100")
+                .withEndDate("23/10/2023 1300").build();
+        Volunteer volunteer = ALICE.addEvent(morning).addEvent(evening);
+        modelManager.addEvent(morning.addVolunteer(ALICE));
+        modelManager.addEvent(evening.addVolunteer(ALICE));
+        modelManager.addVolunteer(volunteer);
+
+        assertEquals(List.of(modelManager.getEventStorage().getEvent(morning.getEventName())),
+                modelManager.getClashingAssignedEvents(volunteer, noon));
+
+        // morning event moved to end when the noon event starts -> no longer clashes
+        Event oldMorning = modelManager.getEventStorage().getEvent(morning.getEventName());
+        modelManager.setEvent(oldMorning, new EventBuilder(oldMorning).withEndDate("23/10/2023 1100").build());
+        assertEquals(List.of(), modelManager.getClashingAssignedEvents(volunteer, noon));
+        assertEquals(List.of(), modelManager.getClashingAssignedEvents(BENSON, noon));
+    }
+
+    private static ModelManager copyOf(ModelManager modelManager) {
+        return new ModelManager(modelManager.getEventStorage(), modelManager.getVolunteerStorage(), new UserPrefs());
+    }
+
+    @Test
+    public void getVersionHistoryMemoryFootprint_newState_increasesFootprint() {
+        long initialFootprint = modelManager.getVersionHistoryMemoryFootprint();
+        modelManager.addVolunteer(ALICE);
+        modelManager.commitToBothVersionedStorages(modelManager.getEventStorage(), modelManager.getVolunteerStorage());
+        assertTrue(modelManager.getVersionHistoryMemoryFootprint() > initialFootprint);
+    }
+
     @Test
     public void hasVolunteer_nullVolunteer_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.hasVolunteer(null));
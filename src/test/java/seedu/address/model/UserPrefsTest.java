@@ -18,4 +18,15 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setVolunteerStorageFilePath(null));
     }
 
+    @Test
+    public void setUndoHistoryLimit_negativeLimit_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryLimit(-1));
+    }
+
+    @Test
+    public void setUndoHistoryMemoryBudget_negativeBudget_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryMemoryBudget(-1));
+    }
 }
@@ -0,0 +1,70 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.Budget;
+import seedu.address.model.event.Description;
+import seedu.address.model.event.EventName;
+import seedu.address.model.event.Location;
+import seedu.address.model.event.Material;
+import seedu.address.model.event.MaxVolunteerSize;
+import seedu.address.model.event.Role;
+import seedu.address.model.skill.Skill;
+import seedu.address.model.volunteer.Email;
+import seedu.address.model.volunteer.Name;
+import seedu.address.model.volunteer.Phone;
+
+/**
+ * Checks that validating with the precompiled patterns of the model value types gives the same results as matching
+ * their validation regexes with {@code String#matches(String)}.
+ */
+public class ValidationPatternTest {
+
+    private static final List<String> INPUTS = List.of("", " ", "  ", "a", "A1", " a", "a ", "a b", "a  b", "a_b",
+            "Ünïcödé", "日本", "12345678", "1234567", "123456789", "1234 5678", "0", "00", "007", "-1", "+1",
+            "1.00", "1.0", ".50", "10.505", "1,00", "2 chef", "2  chef", "2 chef ", "2 ", "2", "chef 2",
+            "1 / 2 chef", "1/2 chef", "1 / 2  chef", "a@b", "a@b.c", "a@bc.de", "a.b@cd.ef", "a..b@cd.ef",
+            ".a@cd.ef", "a+b@cd-ef.gh", "a@-cd.ef", "a@cd", "@cd.ef", "a@cd.e", "x\ny", "\t", "1/1/2023 1200",
+            "hello world!", "Event 2023", "!!!", "a".repeat(200));
+
+    @Test
+    public void isValid_sameAsStringMatches() {
+        assertSameResults(Budget.VALIDATION_REGEX, Budget::isValidBudget);
+        assertSameResults(Description.VALIDATION_REGEX, Description::isValidDescription);
+        assertSameResults(EventName.VALIDATION_REGEX, EventName::isValidEventName);
+        assertSameResults(Location.VALIDATION_REGEX, Location::isValidLocation);
+        assertSameResults(Material.VALIDATION_REGEX_MATERIAL_NAME, Material::isValidMaterialName);
+        assertSameResults(Role.VALIDATION_REGEX_ROLE_NAME, Role::isValidRoleName);
+        assertSameResults(Skill.VALIDATION_REGEX, Skill::isValidSkillName);
+        assertSameResults(Email.VALIDATION_REGEX, Email::isValidEmail);
+        assertSameResults(Name.VALIDATION_REGEX, Name::isValidName);
+        assertSameResults(Phone.VALIDATION_REGEX, Phone::isValidPhone);
+    }
+
+    @Test
+    public void isValid_withQuantities_onlyTrueIfStringMatches() {
+        for (String input : INPUTS) {
+            assertEquals(input.matches(Role.VALIDATION_REGEX) && Role.isValidRole(input), Role.isValidRole(input));
+            assertEquals(input.matches(Role.VALIDATION_REGEX) && Material.isValidMaterial(input),
+                    Material.isValidMaterial(input));
+            assertEquals(input.matches(Role.VALIDATION_REGEX_UI) && Role.isValidUiString(input),
+                    Role.isValidUiString(input));
+            assertEquals(input.matches(Material.VALIDATION_REGEX_UI) && Material.isValidUiString(input),
+                    Material.isValidUiString(input));
+            boolean isValidMaxVolunteerSize = MaxVolunteerSize.isValidMaxVolunteerSize(input);
+            assertEquals(input.matches(MaxVolunteerSize.VALIDATION_REGEX) && isValidMaxVolunteerSize,
+                    isValidMaxVolunteerSize);
+        }
+    }
+
+    private static void assertSameResults(String regex, Predicate<String> isValid) {
+        for (String input : INPUTS) {
+            assertEquals(input.matches(regex), isValid.test(input), "Validating \"" + input + "\" against " + regex);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.FIRST;
+import static seedu.address.testutil.TypicalEvents.SECOND;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -12,6 +14,8 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.event.Event;
+import seedu.address.model.util.ListChangeRecorder;
+import seedu.address.model.util.ListEdit;
 import seedu.address.testutil.EventBuilder;
 
 class VersionedEventStorageTest {
@@ -81,6 +85,23 @@ class VersionedEventStorageTest {
         assertEquals(versionedEventStorage.getVersionedEventsSize(), 3);
     }
 
+    @Test
+    public void saveNewState_recordedEdits_savesEditedState() throws CommandException {
+        ListChangeRecorder<Event> recorder = new ListChangeRecorder<>();
+        eventStorage.getEventList().addListener(recorder);
+        List<Event> previousEvents = new ArrayList<>(eventStorage.getEventList());
+        eventStorage.addEvent(FIRST);
+        eventStorage.addEvent(SECOND);
+        eventStorage.removeEvent(FIRST);
+        List<ListEdit<Event>> edits = recorder.drain();
+
+        versionedEventStorage.shiftPointerForward();
+        versionedEventStorage.saveNewState(eventStorage, edits);
+        assertEquals(edits, versionedEventStorage.getCurrentStateEdits());
+        assertEquals(previousEvents, versionedEventStorage.undo());
+        assertEquals(eventStorage.getEventList(), versionedEventStorage.redo());
+    }
+
     @Test
     public void saveNewState_null_throwNullPointerException() {
         assertThrows(NullPointerException.class, () -> versionedEventStorage.saveNewState(null));
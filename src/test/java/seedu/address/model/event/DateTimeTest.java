@@ -3,6 +3,10 @@ package seedu.address.model.event;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 import org.junit.jupiter.api.Test;
 
@@ -52,6 +56,29 @@ public class DateTimeTest {
         assertFalse(DateTime.isValidDateTime(testDate3));
     }
 
+    @Test
+    public void isValidDateTime_invalidDate_returnFalse() {
+        assertFalse(DateTime.isValidDateTime("32/1/2023 1200"));
+        assertFalse(DateTime.isValidDateTime("29/2/2023 1200"));
+        assertFalse(DateTime.isValidDateTime("0/1/2023 1200"));
+        assertFalse(DateTime.isValidDateTime("1/13/2023 1200"));
+        assertFalse(DateTime.isValidDateTime("1/1/2023 2400"));
+        assertFalse(DateTime.isValidDateTime("1/1/2023 1260"));
+        assertFalse(DateTime.isValidDateTime("1/1/9999999999 1200"));
+    }
+
+    @Test
+    public void isValidDateTime_misplacedSeparators_returnFalse() {
+        assertFalse(DateTime.isValidDateTime(""));
+        assertFalse(DateTime.isValidDateTime(" 1/1/2023 1200"));
+        assertFalse(DateTime.isValidDateTime("1/1/2023  1200"));
+        assertFalse(DateTime.isValidDateTime("1/1/2023 1200 "));
+        assertFalse(DateTime.isValidDateTime("1//2023 1200"));
+        assertFalse(DateTime.isValidDateTime("/1/2023 1200"));
+        assertFalse(DateTime.isValidDateTime("1/1/ 1200"));
+        assertFalse(DateTime.isValidDateTime("1/1/- 1200"));
+    }
+
     @Test
     public void isValidDateTime_null_returnFalse() {
         assertFalse(DateTime.isValidDateTime(null));
@@ -63,6 +90,37 @@ public class DateTimeTest {
         assertTrue(DateTime.isValidDateTime("31/12/2023 2359"));
         assertTrue(DateTime.isValidDateTime("31/1/2023 1100"));
         assertTrue(DateTime.isValidDateTime("1/11/2023 1100"));
+        assertTrue(DateTime.isValidDateTime("29/2/2024 0000"));
+        assertTrue(DateTime.isValidDateTime("1/1/-5 0000"));
+        assertTrue(DateTime.isValidDateTime("001/01/02023 0000"));
+    }
+
+    @Test
+    public void constructor_invalidDateTime_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> new DateTime((String) null));
+        assertThrows(IllegalArgumentException.class, () -> new DateTime("31/2/2023 1200"));
+    }
+
+    @Test
+    public void constructor_validDateTime_parsesFields() {
+        assertEquals(LocalDateTime.of(2023, 12, 31, 23, 59), new DateTime("31/12/2023 2359").dateAndTime);
+        assertEquals(LocalDateTime.of(-5, 1, 2, 3, 4), new DateTime("2/1/-5 0304").dateAndTime);
+    }
+
+    @Test
+    public void toEpochMinute() {
+        assertEquals(0, new DateTime("1/1/1970 0000").toEpochMinute());
+        assertEquals(-1, new DateTime("31/12/1969 2359").toEpochMinute());
+        assertEquals(LocalDateTime.of(2023, 12, 31, 23, 59).toEpochSecond(ZoneOffset.UTC) / 60,
+                new DateTime("31/12/2023 2359").toEpochMinute());
+        assertEquals(new DateTime("1/1/2023 0000").toEpochMinute(),
+                new DateTime(LocalDateTime.of(2023, 1, 1, 0, 0)).toEpochMinute());
+    }
+
+    @Test
+    public void toString_negativeYear_canBeParsedBack() {
+        DateTime dateTime = new DateTime(LocalDateTime.of(-5, 1, 2, 3, 4));
+        assertEquals(dateTime, new DateTime(dateTime.toString()));
     }
 
     @Test
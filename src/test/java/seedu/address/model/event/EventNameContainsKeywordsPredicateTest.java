@@ -3,13 +3,17 @@ package seedu.address.model.event;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.testutil.EventBuilder;
 
 public class EventNameContainsKeywordsPredicateTest {
@@ -42,6 +46,12 @@ public class EventNameContainsKeywordsPredicateTest {
         assertFalse(firstPredicate.equals(secondPredicate));
     }
 
+    @Test
+    public void constructor_emptyKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new EventNameContainsKeywordsPredicate(
+                Arrays.asList("first", "  ")));
+    }
+
     @Test
     public void test_nameContainsKeywords_returnsTrue() {
         // One keyword
@@ -95,4 +105,41 @@ public class EventNameContainsKeywordsPredicateTest {
                 + "{event names=" + keywords + "}";
         assertEquals(expected, predicate.toString());
     }
+
+    @Test
+    public void using_eventNameIndex_matchesSameEvents() {
+        ObservableList<Event> events = FXCollections.observableArrayList(
+                new EventBuilder().withEventName("Beach Cleanup").build(),
+                new EventBuilder().withEventName("Clean the park").build(),
+                new EventBuilder().withEventName("Food Drive").build(),
+                new EventBuilder().withEventName("Animal shelter visit").build());
+        EventNameIndex eventNameIndex = new EventNameIndex(events);
+        events.addListener(eventNameIndex);
+
+        List<List<String>> queries = List.of(List.of("clean"), List.of("CLEAN", "drive"), List.of("an"),
+                List.of("a"), List.of("beach cleanup"), List.of("nup"), List.of("lean park"), List.of("xyz"));
+        for (List<String> keywords : queries) {
+            assertSameMatches(new EventNameContainsKeywordsPredicate(keywords), eventNameIndex, events);
+        }
+
+        // index follows changes to the list
+        Predicate<Event> indexedPredicate = new EventNameContainsKeywordsPredicate(List.of("drive"))
+                .using(eventNameIndex);
+        assertTrue(indexedPredicate.test(events.get(2)));
+        events.set(2, new EventBuilder().withEventName("Food Bank").build());
+        events.add(new EventBuilder().withEventName("Blood Drive").build());
+        assertFalse(indexedPredicate.test(events.get(2)));
+        assertTrue(indexedPredicate.test(events.get(4)));
+        for (List<String> keywords : queries) {
+            assertSameMatches(new EventNameContainsKeywordsPredicate(keywords), eventNameIndex, events);
+        }
+    }
+
+    private static void assertSameMatches(EventNameContainsKeywordsPredicate predicate, EventNameIndex eventNameIndex,
+            List<Event> events) {
+        Predicate<Event> indexedPredicate = predicate.using(eventNameIndex);
+        for (Event event : events) {
+            assertEquals(predicate.test(event), indexedPredicate.test(event), predicate + " " + event);
+        }
+    }
 }
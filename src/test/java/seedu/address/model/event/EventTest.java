@@ -1,6 +1,7 @@
 package seedu.address.model.event;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDateTime;
@@ -9,11 +10,47 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.skill.Skill;
 import seedu.address.model.volunteer.Name;
 import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.VolunteerBuilder;
 
 public class EventTest {
 
+    @Test
+    public void updateVolunteerSkills_changedSkills_updatesMatchingRolesOnly() {
+        Event event = new EventBuilder().withRoles("2 cleaner", "1 cook", "3 driver").build()
+                .addVolunteer(new VolunteerBuilder().withSkills("cleaner", "driver").build());
+        Set<Skill> oldSkills = Set.of(new Skill("cleaner"), new Skill("driver"));
+        Set<Skill> newSkills = Set.of(new Skill("cook"), new Skill("driver"));
+
+        Event updatedEvent = event.updateVolunteerSkills(oldSkills, newSkills);
+        assertEquals(Set.of(new Role("cleaner", 0, 2), new Role("cook", 1, 1), new Role("driver", 1, 3)),
+                new HashSet<>(updatedEvent.getRoles()));
+        assertEquals(event.getAssignedVolunteers(), updatedEvent.getAssignedVolunteers());
+
+        // unchanged skills -> same event returned
+        assertSame(event, event.updateVolunteerSkills(oldSkills, oldSkills));
+    }
+
+    @Test
+    public void constructor_setsModifiedAfterConstruction_eventUnchanged() {
+        Event event = new EventBuilder().withRoles("2 cleaner").withMaterials("5 cloth").build();
+        Set<Role> roles = new HashSet<>(event.getRoles());
+        Set<Material> materials = new HashSet<>(event.getMaterials());
+        Set<Name> assignedVolunteers = new HashSet<>(event.getAssignedVolunteers());
+        Event copy = new Event(event.getEventName(), roles, event.getStartDate(), event.getEndDate(),
+                event.getLocation(), event.getDescription(), materials, event.getBudget(), assignedVolunteers,
+                event.getMaxVolunteerSize());
+        int hashCode = copy.hashCode();
+
+        roles.add(new Role("1 cook"));
+        materials.clear();
+        assignedVolunteers.add(new Name("Alice"));
+        assertEquals(event, copy);
+        assertEquals(hashCode, copy.hashCode());
+    }
+
     @Test
     public void eventTest() {
         // Default event
@@ -0,0 +1,186 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.FIRST;
+import static seedu.address.testutil.TypicalEvents.SECOND;
+import static seedu.address.testutil.TypicalEvents.THIRD;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.exceptions.DuplicateEventException;
+import seedu.address.model.event.exceptions.EventNotFoundException;
+import seedu.address.testutil.EventBuilder;
+
+public class UniqueEventListTest {
+
+    private final UniqueEventList uniqueEventList = new UniqueEventList();
+
+    @Test
+    public void contains_nullEvent_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueEventList.contains(null));
+    }
+
+    @Test
+    public void contains_eventNotInList_returnsFalse() {
+        assertFalse(uniqueEventList.contains(FIRST));
+    }
+
+    @Test
+    public void contains_eventWithSameIdentityFieldsInList_returnsTrue() {
+        uniqueEventList.add(FIRST);
+        Event editedFirst = new EventBuilder(FIRST).withLocation("Hougang").build();
+        assertTrue(uniqueEventList.contains(editedFirst));
+    }
+
+    @Test
+    public void add_duplicateEvent_throwsDuplicateEventException() {
+        uniqueEventList.add(FIRST);
+        assertThrows(DuplicateEventException.class, () -> uniqueEventList.add(FIRST));
+    }
+
+    @Test
+    public void getEvent_eventInList_returnsEvent() {
+        uniqueEventList.add(FIRST);
+        assertEquals(FIRST, uniqueEventList.getEvent(FIRST.getEventName()));
+    }
+
+    @Test
+    public void getEvent_eventNotInList_throwsEventNotFoundException() {
+        assertThrows(EventNotFoundException.class, () -> uniqueEventList.getEvent(FIRST.getEventName()));
+    }
+
+    @Test
+    public void setEvent_editedEventHasDifferentIdentity_updatesLookup() {
+        uniqueEventList.add(FIRST);
+        uniqueEventList.setEvent(FIRST, SECOND);
+        assertFalse(uniqueEventList.contains(FIRST));
+        assertEquals(SECOND, uniqueEventList.getEvent(SECOND.getEventName()));
+    }
+
+    @Test
+    public void setEvent_editedEventHasNonUniqueIdentity_throwsDuplicateEventException() {
+        uniqueEventList.add(FIRST);
+        uniqueEventList.add(SECOND);
+        assertThrows(DuplicateEventException.class, () -> uniqueEventList.setEvent(FIRST, SECOND));
+    }
+
+    @Test
+    public void add_eventsOutOfOrder_keepsListInOrder() {
+        Event late = new EventBuilder().withEventName("Late").withStartDate("25/10/2023 1800")
+                .withEndDate("25/10/2023 2000").build();
+        Event early = new EventBuilder().withEventName("Early").withStartDate("23/10/2023 1800")
+                .withEndDate("23/10/2023 2000").build();
+        Event middle = new EventBuilder().withEventName("Middle").withStartDate("24/10/2023 1800")
+                .withEndDate("24/10/2023 2000").build();
+        Event sameAsMiddle = new EventBuilder(middle).withEventName("Same As Middle").build();
+        uniqueEventList.add(late);
+        uniqueEventList.add(early);
+        uniqueEventList.add(middle);
+        uniqueEventList.add(sameAsMiddle);
+        assertEquals(Arrays.asList(early, middle, sameAsMiddle, late), uniqueEventList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_eventsAtSameDateAndTime_ordersByNameAndFindsEachEvent() {
+        Event bravo = new EventBuilder().withEventName("Bravo").build();
+        Event alpha = new EventBuilder(bravo).withEventName("Alpha").build();
+        Event charlie = new EventBuilder(bravo).withEventName("Charlie").build();
+        uniqueEventList.add(charlie);
+        uniqueEventList.add(bravo);
+        uniqueEventList.add(alpha);
+        assertEquals(Arrays.asList(alpha, bravo, charlie), uniqueEventList.asUnmodifiableObservableList());
+
+        Event editedBravo = new EventBuilder(bravo).withLocation("Hougang").build();
+        uniqueEventList.setEvent(bravo, editedBravo);
+        uniqueEventList.remove(charlie);
+        assertEquals(Arrays.asList(alpha, editedBravo), uniqueEventList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setEvent_datesEdited_movesEventToKeepListInOrder() {
+        Event early = new EventBuilder().withEventName("Early").withStartDate("23/10/2023 1800")
+                .withEndDate("23/10/2023 2000").build();
+        Event late = new EventBuilder().withEventName("Late").withStartDate("25/10/2023 1800")
+                .withEndDate("25/10/2023 2000").build();
+        uniqueEventList.add(early);
+        uniqueEventList.add(late);
+
+        Event earlyMadeLater = new EventBuilder(early).withStartDate("26/10/2023 1800")
+                .withEndDate("26/10/2023 2000").build();
+        uniqueEventList.setEvent(early, earlyMadeLater);
+        assertEquals(Arrays.asList(late, earlyMadeLater), uniqueEventList.asUnmodifiableObservableList());
+
+        Event lateWithNewLocation = new EventBuilder(late).withLocation("Hougang").build();
+        uniqueEventList.setEvent(late, lateWithNewLocation);
+        assertEquals(Arrays.asList(lateWithNewLocation, earlyMadeLater),
+                uniqueEventList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setEvents_unorderedList_replacesWithOrderedList() {
+        uniqueEventList.setEvents(Arrays.asList(THIRD, FIRST, SECOND));
+        assertEquals(Arrays.asList(FIRST, SECOND, THIRD), uniqueEventList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setEvent_targetHasSameIdentityButDifferentFields_throwsEventNotFoundException() {
+        uniqueEventList.add(FIRST);
+        Event editedFirst = new EventBuilder(FIRST).withLocation("Hougang").build();
+        assertThrows(EventNotFoundException.class, () -> uniqueEventList.setEvent(editedFirst, SECOND));
+        assertThrows(EventNotFoundException.class, () -> uniqueEventList.remove(editedFirst));
+    }
+
+    @Test
+    public void setEvent_afterEventsInsertedAndRemovedBefore_replacesEventAtShiftedPosition() {
+        uniqueEventList.add(THIRD);
+        uniqueEventList.add(SECOND);
+        uniqueEventList.add(FIRST);
+        uniqueEventList.remove(SECOND);
+        Event editedThird = new EventBuilder(THIRD).withLocation("Hougang").build();
+        uniqueEventList.setEvent(THIRD, editedThird);
+        assertEquals(Arrays.asList(FIRST, editedThird), uniqueEventList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_eventDoesNotExist_throwsEventNotFoundException() {
+        assertThrows(EventNotFoundException.class, () -> uniqueEventList.remove(FIRST));
+    }
+
+    @Test
+    public void remove_existingEvent_removesEvent() {
+        uniqueEventList.add(FIRST);
+        uniqueEventList.remove(FIRST);
+        assertFalse(uniqueEventList.contains(FIRST));
+        assertEquals(new UniqueEventList(), uniqueEventList);
+    }
+
+    @Test
+    public void setEvents_list_replacesOwnListWithProvidedList() {
+        uniqueEventList.add(FIRST);
+        List<Event> eventList = Collections.singletonList(SECOND);
+        uniqueEventList.setEvents(eventList);
+        UniqueEventList expectedUniqueEventList = new UniqueEventList();
+        expectedUniqueEventList.add(SECOND);
+        assertEquals(expectedUniqueEventList, uniqueEventList);
+        assertFalse(uniqueEventList.contains(FIRST));
+    }
+
+    @Test
+    public void setEvents_listWithDuplicateEvents_throwsDuplicateEventException() {
+        List<Event> listWithDuplicateEvents = Arrays.asList(FIRST, FIRST);
+        assertThrows(DuplicateEventException.class, () -> uniqueEventList.setEvents(listWithDuplicateEvents));
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, ()
+            -> uniqueEventList.asUnmodifiableObservableList().remove(0));
+    }
+}
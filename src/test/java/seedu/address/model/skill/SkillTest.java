@@ -1,5 +1,9 @@
 package seedu.address.model.skill;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -17,10 +21,35 @@ public class SkillTest {
         assertThrows(IllegalArgumentException.class, () -> new Skill(invalidSkillName));
     }
 
+    @Test
+    public void of_invalidSkillName_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> Skill.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Skill.of(""));
+    }
+
+    @Test
+    public void of_equalSkillNames_returnsSameSkill() {
+        Skill skill = Skill.of("Chef");
+        assertSame(skill, Skill.of(new String("Chef")));
+        assertEquals(new Skill("Chef"), skill);
+    }
+
     @Test
     public void isValidSkillName() {
         // null skill name
         assertThrows(NullPointerException.class, () -> Skill.isValidSkillName(null));
     }
 
+    @Test
+    public void getNormalizedName() {
+        assertEquals("first aid", new Skill("First AID").getNormalizedName());
+    }
+
+    @Test
+    public void isSingleWord() {
+        assertTrue(new Skill("Chef").isSingleWord());
+        assertTrue(new Skill("Chef ").isSingleWord());
+        assertFalse(new Skill("First Aid").isSingleWord());
+    }
+
 }
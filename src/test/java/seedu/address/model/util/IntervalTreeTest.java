@@ -0,0 +1,76 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class IntervalTreeTest {
+
+    private final IntervalTree<String> tree = new IntervalTree<>(Comparator.naturalOrder());
+
+    @Test
+    public void add_startAfterEnd_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> tree.add(2, 1, "a"));
+    }
+
+    @Test
+    public void findOverlapping_touchingAndContainedIntervals_found() {
+        tree.add(10, 20, "a");
+        tree.add(20, 30, "b");
+        tree.add(0, 100, "c");
+        tree.add(40, 50, "d");
+
+        assertEquals(List.of("c", "a", "b"), tree.findOverlapping(15, 20));
+        assertEquals(List.of("c", "d"), tree.findOverlapping(35, 45));
+        assertEquals(List.of(), tree.findOverlapping(101, 200));
+    }
+
+    @Test
+    public void remove_sameIntervalDifferentValues_removesOnlyValue() {
+        tree.add(10, 20, "a");
+        tree.add(10, 20, "b");
+
+        assertTrue(tree.remove(10, 20, "a"));
+        assertFalse(tree.remove(10, 20, "a"));
+        assertFalse(tree.remove(10, 21, "b"));
+        assertEquals(List.of("b"), tree.findOverlapping(0, 100));
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    public void findOverlapping_randomChanges_sameAsScan() {
+        Random random = new Random(42);
+        List<long[]> intervals = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            if (!intervals.isEmpty() && random.nextInt(3) == 0) {
+                long[] removed = intervals.remove(random.nextInt(intervals.size()));
+                assertTrue(tree.remove(removed[0], removed[1], Long.toString(removed[2])));
+            } else {
+                long start = random.nextInt(1000);
+                long[] interval = {start, start + random.nextInt(50), i};
+                intervals.add(interval);
+                tree.add(interval[0], interval[1], Long.toString(i));
+            }
+
+            long start = random.nextInt(1000);
+            long end = start + random.nextInt(30);
+            List<String> expected = intervals.stream()
+                    .filter(interval -> interval[0] <= end && interval[1] >= start)
+                    .map(interval -> Long.toString(interval[2]))
+                    .sorted()
+                    .collect(Collectors.toList());
+            List<String> actual = tree.findOverlapping(start, end).stream().sorted().collect(Collectors.toList());
+            assertEquals(expected, actual);
+            assertEquals(intervals.size(), tree.size());
+        }
+    }
+}
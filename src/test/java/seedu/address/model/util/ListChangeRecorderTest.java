@@ -0,0 +1,62 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class ListChangeRecorderTest {
+
+    private final ObservableList<String> list = FXCollections.observableArrayList("d", "b", "a");
+    private final ListChangeRecorder<String> recorder = new ListChangeRecorder<>();
+
+    @BeforeEach
+    public void setUp() {
+        list.addListener(recorder);
+    }
+
+    @Test
+    public void drain_noChanges_returnsEmptyList() {
+        assertFalse(recorder.hasEdits());
+        assertTrue(recorder.drain().isEmpty());
+    }
+
+    @Test
+    public void drain_changes_replaysAndUndoesChanges() {
+        List<String> original = new ArrayList<>(list);
+        list.add("c");
+        list.set(0, "e");
+        list.remove("b");
+        list.add(0, "a");
+        List<String> changed = new ArrayList<>(list);
+
+        assertTrue(recorder.hasEdits());
+        List<ListEdit<String>> edits = recorder.drain();
+        assertFalse(recorder.hasEdits());
+
+        List<String> replayed = new ArrayList<>(original);
+        edits.forEach(edit -> edit.applyTo(replayed));
+        assertEquals(changed, replayed);
+
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            edits.get(i).inverse().applyTo(replayed);
+        }
+        assertEquals(original, replayed);
+    }
+
+    @Test
+    public void clear_changes_discardsChanges() {
+        list.setAll(Arrays.asList("x", "y"));
+        recorder.clear();
+        assertFalse(recorder.hasEdits());
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ListEditTest {
+
+    private static final List<String> ITEMS = Arrays.asList("a", "b", "c", "d");
+
+    @Test
+    public void ofReplacement_nullLists_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ListEdit.ofReplacement(0, null, List.of()));
+        assertThrows(NullPointerException.class, () -> ListEdit.ofReplacement(0, List.of(), null));
+    }
+
+    @Test
+    public void applyTo_replacement_replacesRange() {
+        assertAppliedAndInverted(ListEdit.ofReplacement(1, List.of("b", "c"), List.of("x", "y")),
+                Arrays.asList("a", "x", "y", "d"));
+        assertAppliedAndInverted(ListEdit.ofReplacement(1, List.of("b"), List.of("x", "y")),
+                Arrays.asList("a", "x", "y", "c", "d"));
+        assertAppliedAndInverted(ListEdit.ofReplacement(4, List.of(), List.of("e")),
+                Arrays.asList("a", "b", "c", "d", "e"));
+        assertAppliedAndInverted(ListEdit.ofReplacement(0, List.of("a", "b"), List.of()),
+                Arrays.asList("c", "d"));
+    }
+
+    @Test
+    public void between_differentLists_returnsEditOfChangedRange() {
+        List<String> newList = Arrays.asList("a", "x", "y", "d");
+        ListEdit<String> edit = ListEdit.between(ITEMS, newList).get();
+        assertEquals(1, edit.getFrom());
+        assertEquals(Arrays.asList("b", "c"), edit.getRemoved());
+        assertAppliedAndInverted(edit, newList);
+
+        assertAppliedAndInverted(ListEdit.between(ITEMS, List.of()).get(), List.of());
+        assertFalse(ListEdit.between(ITEMS, new ArrayList<>(ITEMS)).isPresent());
+    }
+
+    private static void assertAppliedAndInverted(ListEdit<String> edit, List<String> expected) {
+        List<String> list = new ArrayList<>(ITEMS);
+        edit.applyTo(list);
+        assertEquals(expected, list);
+        edit.inverse().applyTo(list);
+        assertEquals(ITEMS, list);
+    }
+}
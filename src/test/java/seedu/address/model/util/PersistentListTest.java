@@ -0,0 +1,146 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    private static final List<String> ITEMS = Arrays.asList("a", "b", "c", "d", "e", "f", "g");
+
+    @Test
+    public void of_list_containsSameElementsInOrder() {
+        assertEquals(ITEMS, PersistentList.of(ITEMS));
+        assertEquals(Collections.emptyList(), PersistentList.of(Collections.emptyList()));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of(ITEMS);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(ITEMS.size()));
+    }
+
+    @Test
+    public void add_unsupportedMutator_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> PersistentList.of(ITEMS).add("h"));
+    }
+
+    @Test
+    public void withSet_validIndex_doesNotModifyOriginal() {
+        PersistentList<String> original = PersistentList.of(ITEMS);
+        PersistentList<String> updated = original.withSet(3, "x");
+        assertEquals(ITEMS, original);
+        assertEquals(Arrays.asList("a", "b", "c", "x", "e", "f", "g"), updated);
+    }
+
+    @Test
+    public void withInsertedAndWithRemoved_manyOperations_matchesArrayList() {
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 200; i++) {
+            int index = (i * 37) % (expected.size() + 1);
+            expected.add(index, i);
+            actual = actual.withInserted(index, i);
+        }
+        assertEquals(expected, actual);
+
+        for (int i = 0; i < 150; i++) {
+            int index = (i * 53) % expected.size();
+            expected.remove(index);
+            actual = actual.withRemoved(index);
+        }
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void withContentsOf_sameElements_returnsSameList() {
+        PersistentList<String> list = PersistentList.of(ITEMS);
+        assertSame(list, list.withContentsOf(new ArrayList<>(ITEMS)));
+    }
+
+    @Test
+    public void withContentsOf_changedElements_matchesNewContents() {
+        PersistentList<String> list = PersistentList.of(ITEMS);
+
+        List<String> replaced = Arrays.asList("a", "b", "x", "d", "e", "f", "g");
+        assertEquals(replaced, list.withContentsOf(replaced));
+
+        List<String> inserted = Arrays.asList("a", "b", "c", "x", "y", "d", "e", "f", "g");
+        assertEquals(inserted, list.withContentsOf(inserted));
+
+        List<String> removed = Arrays.asList("a", "e", "f", "g");
+        assertEquals(removed, list.withContentsOf(removed));
+
+        List<String> appended = Arrays.asList("a", "b", "c", "d", "e", "f", "g", "h");
+        assertEquals(appended, list.withContentsOf(appended));
+
+        assertEquals(Collections.emptyList(), list.withContentsOf(Collections.emptyList()));
+        assertEquals(ITEMS, PersistentList.<String>empty().withContentsOf(ITEMS));
+    }
+
+    @Test
+    public void withEdits_recordedEdits_matchesEditedList() {
+        List<String> expected = new ArrayList<>(ITEMS);
+        List<ListEdit<String>> edits = Arrays.asList(
+                ListEdit.ofReplacement(1, Arrays.asList("b"), Arrays.asList("x")),
+                ListEdit.ofReplacement(3, Collections.emptyList(), Arrays.asList("y", "z")),
+                ListEdit.ofReplacement(5, Arrays.asList("e", "f"), Collections.emptyList()),
+                ListEdit.ofReplacement(0, Arrays.asList("a", "x"), Arrays.asList("w")));
+        edits.forEach(edit -> edit.applyTo(expected));
+
+        assertEquals(expected, PersistentList.of(ITEMS).withEdits(edits));
+        assertEquals(ITEMS, PersistentList.of(ITEMS).withEdits(Collections.emptyList()));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.of(ITEMS).withEdits(
+                List.of(ListEdit.ofReplacement(6, Arrays.asList("g", "h"), Collections.emptyList()))));
+    }
+
+    @Test
+    public void withEdits_twoPositionsFarApartChanged_allocatesLogarithmicNodes() {
+        int size = 1 << 16;
+        List<String> items = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            items.add(Integer.toString(i));
+        }
+        PersistentList<String> list = PersistentList.of(items);
+
+        PersistentList<String> edited = list.withEdits(Arrays.asList(
+                ListEdit.ofReplacement(1, Arrays.asList(items.get(1)), Arrays.asList("x")),
+                ListEdit.ofReplacement(size - 2, Arrays.asList(items.get(size - 2)), Arrays.asList("y"))));
+        items.set(1, "x");
+        items.set(size - 2, "y");
+        assertEquals(items, edited);
+
+        // each edit copies one path of the tree, which is about log2(size) = 16 nodes long
+        long allocatedNodes = edited.getEstimatedAllocatedBytes(0) / PersistentList.ESTIMATED_NODE_BYTES;
+        assertTrue(allocatedNodes <= 2 * 17, "allocated " + allocatedNodes + " nodes");
+        assertEquals(2 * 100, edited.getEstimatedAllocatedBytes(100) - edited.getEstimatedAllocatedBytes(0));
+    }
+
+    @Test
+    public void getEstimatedAllocatedBytes_derivedList_countsOnlyIntroducedElements() {
+        PersistentList<String> list = PersistentList.of(ITEMS);
+        assertEquals(ITEMS.size() * (PersistentList.ESTIMATED_NODE_BYTES + 100), list.getEstimatedSizeInBytes(100));
+        assertEquals(list.getEstimatedAllocatedBytes(0) + ITEMS.size() * 100, list.getEstimatedAllocatedBytes(100));
+
+        // replaced and inserted elements are retained by the derived list
+        PersistentList<String> replaced = list.withSet(2, "x");
+        assertEquals(replaced.getEstimatedAllocatedBytes(0) + 100, replaced.getEstimatedAllocatedBytes(100));
+        PersistentList<String> inserted = list.withInserted(2, "x");
+        assertEquals(inserted.getEstimatedAllocatedBytes(0) + 100, inserted.getEstimatedAllocatedBytes(100));
+        PersistentList<String> changed = list.withContentsOf(Arrays.asList("a", "x", "y", "d", "e", "f", "g", "h"));
+        assertEquals(changed.getEstimatedAllocatedBytes(0) + 300, changed.getEstimatedAllocatedBytes(100));
+
+        // removed elements are only retained by the list they were removed from
+        PersistentList<String> removed = list.withRemoved(2);
+        assertEquals(removed.getEstimatedAllocatedBytes(0), removed.getEstimatedAllocatedBytes(100));
+    }
+}
@@ -2,14 +2,19 @@ package seedu.address.model.volunteer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.VolunteerFindCommandTest.preparePredicate;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.testutil.VolunteerBuilder;
 
@@ -85,6 +90,45 @@ public class SkillNameContainsKeywordsPredicateTest {
         assertTrue(predicate2.test(new VolunteerBuilder().withSkills("chef", "waiter").build()));
     }
 
+    @Test
+    public void using_skillIndex_matchesSameVolunteers() throws ParseException {
+        Volunteer alice = new VolunteerBuilder().withName("Alice Pauline").withSkills("Chef", "driver").build();
+        Volunteer bob = new VolunteerBuilder().withName("Bob Choo").withSkills("chef").build();
+        Volunteer carl = new VolunteerBuilder().withName("Carl Kurz").withSkills("pastry chef", "driver").build();
+        Volunteer daniel = new VolunteerBuilder().withName("Daniel Meier").withSkills("waiter").build();
+        List<Volunteer> volunteers = List.of(alice, bob, carl, daniel);
+        SkillIndex skillIndex = new SkillIndex(volunteers);
+
+        for (String args : List.of(" s/chef", " s/CHEF s/driver", " s/che s/waiter", " n/Alice n/Carl s/chef s/waiter",
+                " n/Bob s/driver", " s/cook")) {
+            SkillNameContainsKeywordsPredicate predicate = preparePredicate(args);
+            Predicate<Volunteer> indexedPredicate = predicate.using(skillIndex);
+            for (Volunteer volunteer : volunteers) {
+                assertEquals(predicate.test(volunteer), indexedPredicate.test(volunteer), args + " " + volunteer);
+            }
+        }
+
+        // names only -> no index needed
+        SkillNameContainsKeywordsPredicate namePredicate = preparePredicate(" n/Alice");
+        assertSame(namePredicate, namePredicate.using(skillIndex));
+    }
+
+    @Test
+    public void using_skillIndexChanged_matchesChangedVolunteers() throws ParseException {
+        ObservableList<Volunteer> volunteers = FXCollections.observableArrayList(
+                new VolunteerBuilder().withName("Alice").withSkills("chef").build());
+        SkillIndex skillIndex = new SkillIndex(volunteers);
+        volunteers.addListener(skillIndex);
+        Predicate<Volunteer> predicate = preparePredicate(" s/chef").using(skillIndex);
+        assertTrue(predicate.test(volunteers.get(0)));
+
+        Volunteer bob = new VolunteerBuilder().withName("Bob").withSkills("chef").build();
+        volunteers.set(0, new VolunteerBuilder().withName("Alice").withSkills("waiter").build());
+        volunteers.add(bob);
+        assertFalse(predicate.test(volunteers.get(0)));
+        assertTrue(predicate.test(bob));
+    }
+
     @Test
     public void toStringMethod() throws ParseException {
         SkillNameContainsKeywordsPredicate predicate = preparePredicate(" n/keyword1 s/keyword2");
@@ -7,6 +7,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_SKILL_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalVolunteers.ALICE;
 import static seedu.address.testutil.TypicalVolunteers.BOB;
+import static seedu.address.testutil.TypicalVolunteers.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -14,6 +15,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.util.ListEdit;
 import seedu.address.model.volunteer.exceptions.DuplicateVolunteerException;
 import seedu.address.model.volunteer.exceptions.VolunteerNotFoundException;
 import seedu.address.testutil.VolunteerBuilder;
@@ -99,6 +101,8 @@ public class UniqueVolunteerListTest {
         UniqueVolunteerList expectedUniqueVolunteerList = new UniqueVolunteerList();
         expectedUniqueVolunteerList.add(BOB);
         assertEquals(expectedUniqueVolunteerList, uniqueVolunteerList);
+        assertFalse(uniqueVolunteerList.contains(ALICE));
+        assertTrue(uniqueVolunteerList.contains(BOB));
     }
 
     @Test
@@ -124,6 +128,52 @@ public class UniqueVolunteerListTest {
         uniqueVolunteerList.remove(ALICE);
         UniqueVolunteerList expectedUniqueVolunteerList = new UniqueVolunteerList();
         assertEquals(expectedUniqueVolunteerList, uniqueVolunteerList);
+        assertFalse(uniqueVolunteerList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_volunteerWithSameIdentityButDifferentFields_throwsVolunteerNotFoundException() {
+        uniqueVolunteerList.add(ALICE);
+        Volunteer editedAlice = new VolunteerBuilder(ALICE).withSkills(VALID_SKILL_HUSBAND).build();
+        assertThrows(VolunteerNotFoundException.class, () -> uniqueVolunteerList.remove(editedAlice));
+        assertThrows(VolunteerNotFoundException.class, () -> uniqueVolunteerList.setVolunteer(editedAlice, BOB));
+    }
+
+    @Test
+    public void setVolunteer_afterRemovingEarlierVolunteer_replacesVolunteerAtShiftedPosition() {
+        uniqueVolunteerList.add(ALICE);
+        uniqueVolunteerList.add(BOB);
+        uniqueVolunteerList.remove(ALICE);
+        Volunteer editedBob = new VolunteerBuilder(BOB).withSkills(VALID_SKILL_HUSBAND).build();
+        uniqueVolunteerList.setVolunteer(BOB, editedBob);
+        assertEquals(Collections.singletonList(editedBob), uniqueVolunteerList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void applyEdit_undoAndRedoRemoval_replacesVolunteersAtShiftedPositions() {
+        uniqueVolunteerList.add(ALICE);
+        uniqueVolunteerList.add(BOB);
+        uniqueVolunteerList.add(CARL);
+        ListEdit<Volunteer> removal = ListEdit.ofReplacement(0, List.of(ALICE), List.of());
+
+        uniqueVolunteerList.applyEdit(removal);
+        Volunteer editedCarl = new VolunteerBuilder(CARL).withSkills(VALID_SKILL_HUSBAND).build();
+        uniqueVolunteerList.setVolunteer(CARL, editedCarl);
+        assertEquals(Arrays.asList(BOB, editedCarl), uniqueVolunteerList.asUnmodifiableObservableList());
+
+        uniqueVolunteerList.applyEdit(ListEdit.ofReplacement(1, List.of(editedCarl), List.of(CARL)));
+        uniqueVolunteerList.applyEdit(removal.inverse());
+        uniqueVolunteerList.remove(BOB);
+        uniqueVolunteerList.setVolunteer(CARL, editedCarl);
+        assertEquals(Arrays.asList(ALICE, editedCarl), uniqueVolunteerList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_afterRemovingVolunteer_success() {
+        uniqueVolunteerList.add(ALICE);
+        uniqueVolunteerList.remove(ALICE);
+        uniqueVolunteerList.add(ALICE);
+        assertTrue(uniqueVolunteerList.contains(ALICE));
     }
 
     @Test
@@ -138,6 +188,8 @@ public class UniqueVolunteerListTest {
         expectedUniqueVolunteerList.add(BOB);
         uniqueVolunteerList.setVolunteers(expectedUniqueVolunteerList);
         assertEquals(expectedUniqueVolunteerList, uniqueVolunteerList);
+        assertFalse(uniqueVolunteerList.contains(ALICE));
+        assertTrue(uniqueVolunteerList.contains(BOB));
     }
 
     @Test
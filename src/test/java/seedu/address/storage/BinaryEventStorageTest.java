@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventStorage;
+import static seedu.address.testutil.TypicalVolunteers.ALICE;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.EventStorage;
+import seedu.address.model.ReadOnlyEventStorage;
+import seedu.address.model.VolunteerStorage;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
+
+public class BinaryEventStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readEventStorage_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryEventStorage(null).readEventStorage(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryEventStorage(filePath).readEventStorage().isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("notBinaryFormatEventStorage.bin");
+        FileUtil.writeToFile(filePath, "{ \"events\" : [ ] }");
+        assertThrows(DataLoadingException.class, () -> new BinaryEventStorage(filePath).readEventStorage());
+    }
+
+    @Test
+    public void read_volunteerStorageFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("volunteerStorage.bin");
+        new BinaryVolunteerStorage(filePath).saveVolunteerStorage(new VolunteerStorage());
+        assertThrows(DataLoadingException.class, () -> new BinaryEventStorage(filePath).readEventStorage());
+    }
+
+    @Test
+    public void read_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("truncatedEventStorage.bin");
+        BinaryEventStorage binaryEventStorage = new BinaryEventStorage(filePath);
+        binaryEventStorage.saveEventStorage(getTypicalEventStorage());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(DataLoadingException.class, binaryEventStorage::readEventStorage);
+    }
+
+    @Test
+    public void read_endDateBeforeStartDate_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("invalidDatesEventStorage.bin");
+        EventStorage eventStorage = new EventStorage();
+        eventStorage.addEvent(new EventBuilder().withStartDate("25/10/2023 1800").withEndDate("24/10/2023 1800")
+                .build());
+        BinaryEventStorage binaryEventStorage = new BinaryEventStorage(filePath);
+        binaryEventStorage.saveEventStorage(eventStorage);
+        assertThrows(DataLoadingException.class, binaryEventStorage::readEventStorage);
+    }
+
+    @Test
+    public void readAndSaveEventStorage_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempEventStorage.bin");
+        EventStorage original = getTypicalEventStorage();
+        Event withAssignedVolunteers = new EventBuilder().withEventName("Assigned")
+                .withRoles("2 chef").withMaterials("3 pan").withMaxVolunteerSize("0").build()
+                .addVolunteer(ALICE);
+        original.addEvent(withAssignedVolunteers);
+        BinaryEventStorage binaryEventStorage = new BinaryEventStorage(filePath);
+
+        // Save in new file and read back
+        binaryEventStorage.saveEventStorage(original, filePath);
+        ReadOnlyEventStorage readBack = binaryEventStorage.readEventStorage(filePath).get();
+        assertEquals(original, new EventStorage(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.removeEvent(withAssignedVolunteers);
+        binaryEventStorage.saveEventStorage(original, filePath);
+        readBack = binaryEventStorage.readEventStorage(filePath).get();
+        assertEquals(original, new EventStorage(readBack));
+    }
+
+    @Test
+    public void saveEventStorage_typicalEvents_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("eventStorage.bin");
+        Path jsonFilePath = testFolder.resolve("eventStorage.json");
+        new BinaryEventStorage(binaryFilePath).saveEventStorage(getTypicalEventStorage());
+        new JsonEventStorage(jsonFilePath).saveEventStorage(getTypicalEventStorage());
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath) / 4);
+    }
+}
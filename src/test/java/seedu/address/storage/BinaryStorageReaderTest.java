@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BinaryStorageReaderTest {
+
+    private static final byte CONTENT_TYPE = 'T';
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_writtenData_readsSameData() throws Exception {
+        BinaryStorageWriter writer = new BinaryStorageWriter(CONTENT_TYPE);
+        writer.writeString("chef");
+        writer.writeCount(0);
+        writer.writeCount(Integer.MAX_VALUE);
+        writer.writeSignedLong(-1);
+        writer.writeSignedLong(Long.MIN_VALUE);
+        writer.writeSignedLong(Long.MAX_VALUE);
+        writer.writeString("événement");
+        writer.writeString("chef");
+
+        BinaryStorageReader reader = new BinaryStorageReader(toBuffer(writer), CONTENT_TYPE);
+        String chef = reader.readString();
+        assertEquals("chef", chef);
+        assertEquals(0, reader.readCount());
+        assertEquals(Integer.MAX_VALUE, reader.readCount());
+        assertEquals(-1, reader.readSignedLong());
+        assertEquals(Long.MIN_VALUE, reader.readSignedLong());
+        assertEquals(Long.MAX_VALUE, reader.readSignedLong());
+        assertEquals("événement", reader.readString());
+        // repeated strings are only decoded once
+        assertSame(chef, reader.readString());
+    }
+
+    @Test
+    public void constructor_otherContentType_throwsIoException() throws Exception {
+        BinaryStorageWriter writer = new BinaryStorageWriter(CONTENT_TYPE);
+        ByteBuffer buffer = toBuffer(writer);
+        assertThrows(IOException.class, () -> new BinaryStorageReader(buffer, (byte) 'U'));
+    }
+
+    @Test
+    public void readString_indexNotInStringTable_throwsIoException() throws Exception {
+        BinaryStorageWriter writer = new BinaryStorageWriter(CONTENT_TYPE);
+        writer.writeCount(1);
+        BinaryStorageReader reader = new BinaryStorageReader(toBuffer(writer), CONTENT_TYPE);
+        assertThrows(IOException.class, reader::readString);
+    }
+
+    @Test
+    public void readCount_endOfData_throwsIoException() throws Exception {
+        BinaryStorageReader reader = new BinaryStorageReader(toBuffer(new BinaryStorageWriter(CONTENT_TYPE)),
+                CONTENT_TYPE);
+        assertThrows(IOException.class, reader::readCount);
+    }
+
+    @Test
+    public void mapFile_smallFile_readIntoMemory() throws Exception {
+        Path filePath = testFolder.resolve("small.bin");
+        byte[] contents = {1, 2, 3};
+        Files.write(filePath, contents);
+
+        ByteBuffer buffer = BinaryStorageReader.mapFile(filePath);
+        assertFalse(buffer instanceof MappedByteBuffer);
+        assertArrayEquals(contents, toArray(buffer));
+    }
+
+    @Test
+    public void mapFile_largeFile_mapped() throws Exception {
+        Path filePath = testFolder.resolve("large.bin");
+        byte[] contents = new byte[(int) BinaryStorageReader.MAPPING_THRESHOLD + 1];
+        contents[contents.length - 1] = 42;
+        Files.write(filePath, contents);
+
+        ByteBuffer buffer = BinaryStorageReader.mapFile(filePath);
+        assertTrue(buffer instanceof MappedByteBuffer);
+        assertArrayEquals(contents, toArray(buffer));
+    }
+
+    private static ByteBuffer toBuffer(BinaryStorageWriter writer) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.writeTo(out);
+        return ByteBuffer.wrap(out.toByteArray());
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
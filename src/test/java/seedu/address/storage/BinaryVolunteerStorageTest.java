@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalVolunteers.HOON;
+import static seedu.address.testutil.TypicalVolunteers.IDA;
+import static seedu.address.testutil.TypicalVolunteers.getTypicalVolunteerStorage;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyVolunteerStorage;
+import seedu.address.model.VolunteerStorage;
+
+public class BinaryVolunteerStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readVolunteerStorage_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryVolunteerStorage(null).readVolunteerStorage(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryVolunteerStorage(filePath).readVolunteerStorage().isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("notBinaryFormatVolunteerStorage.bin");
+        FileUtil.writeToFile(filePath, "{ \"volunteers\" : [ ] }");
+        assertThrows(DataLoadingException.class, () -> new BinaryVolunteerStorage(filePath).readVolunteerStorage());
+    }
+
+    @Test
+    public void readAndSaveVolunteerStorage_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempVolunteerStorage.bin");
+        VolunteerStorage original = getTypicalVolunteerStorage();
+        BinaryVolunteerStorage binaryVolunteerStorage = new BinaryVolunteerStorage(filePath);
+
+        // Save in new file and read back
+        binaryVolunteerStorage.saveVolunteerStorage(original, filePath);
+        ReadOnlyVolunteerStorage readBack = binaryVolunteerStorage.readVolunteerStorage(filePath).get();
+        assertEquals(original, new VolunteerStorage(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addVolunteer(HOON);
+        original.addVolunteer(IDA);
+        binaryVolunteerStorage.saveVolunteerStorage(original, filePath);
+        readBack = binaryVolunteerStorage.readVolunteerStorage(filePath).get();
+        assertEquals(original, new VolunteerStorage(readBack));
+    }
+}
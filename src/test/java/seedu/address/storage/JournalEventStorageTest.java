@@ -0,0 +1,160 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.CLEANUP;
+import static seedu.address.testutil.TypicalEvents.FIRST;
+import static seedu.address.testutil.TypicalEvents.HELPOUT;
+import static seedu.address.testutil.TypicalEvents.SECOND;
+import static seedu.address.testutil.TypicalEvents.SEVENTH;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventStorage;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.EventStorage;
+import seedu.address.model.ReadOnlyEventStorage;
+import seedu.address.testutil.EventBuilder;
+
+public class JournalEventStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readEventStorage_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalEventStorage(null).readEventStorage(null));
+    }
+
+    @Test
+    public void readEventStorage_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JournalEventStorage(filePath).readEventStorage().isPresent());
+    }
+
+    @Test
+    public void saveEventStorage_nullParameters_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("SomeFile.json");
+        JournalEventStorage storage = new JournalEventStorage(filePath);
+        assertThrows(NullPointerException.class, () -> storage.saveEventStorage(null, filePath));
+        assertThrows(NullPointerException.class, () -> storage.saveEventStorage(new EventStorage(), null));
+    }
+
+    @Test
+    public void readAndSaveEventStorage_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempEventStorage.json");
+        EventStorage original = getTypicalEventStorage();
+        JournalEventStorage journalEventStorage = new JournalEventStorage(filePath);
+
+        // first save writes a snapshot readable by JsonEventStorage
+        journalEventStorage.saveEventStorage(original);
+        assertFalse(Files.exists(JsonJournal.getJournalPath(filePath)));
+        assertEquals(original, new EventStorage(new JsonEventStorage(filePath).readEventStorage().get()));
+
+        // later saves only append the changes to the journal, one entry for each change
+        original.addEvent(CLEANUP);
+        original.removeEvent(SECOND);
+        journalEventStorage.saveEventStorage(original);
+        original.setEvent(FIRST, new EventBuilder(FIRST).withLocation("Hougang").build());
+        journalEventStorage.saveEventStorage(original);
+        assertEquals(4, readJournal(filePath).size());
+
+        // saving unchanged data does not append anything
+        journalEventStorage.saveEventStorage(original);
+        assertEquals(4, readJournal(filePath).size());
+
+        ReadOnlyEventStorage readBack = new JournalEventStorage(filePath).readEventStorage().get();
+        assertEquals(original, new EventStorage(readBack));
+    }
+
+    @Test
+    public void saveEventStorage_eventsFarApartEdited_appendsOnlyEditedEvents() throws Exception {
+        Path filePath = testFolder.resolve("TempEventStorage.json");
+        EventStorage original = getTypicalEventStorage();
+        JournalEventStorage journalEventStorage = new JournalEventStorage(filePath);
+        journalEventStorage.saveEventStorage(original);
+
+        original.setEvent(FIRST, new EventBuilder(FIRST).withLocation("Hougang").build());
+        original.setEvent(SEVENTH, new EventBuilder(SEVENTH).withLocation("Hougang").build());
+        journalEventStorage.saveEventStorage(original);
+
+        // the events between the edited ones are not written again
+        List<String> journal = readJournal(filePath);
+        assertEquals(3, journal.size());
+        assertFalse(String.join("\n", journal).contains(SECOND.getEventName().eventName));
+        assertEquals(original, new EventStorage(new JournalEventStorage(filePath).readEventStorage().get()));
+    }
+
+    @Test
+    public void saveEventStorage_afterReload_appendsChangesToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempEventStorage.json");
+        EventStorage original = getTypicalEventStorage();
+        new JournalEventStorage(filePath).saveEventStorage(original);
+
+        JournalEventStorage reloadedStorage = new JournalEventStorage(filePath);
+        EventStorage reloaded = new EventStorage(reloadedStorage.readEventStorage().get());
+        reloaded.addEvent(CLEANUP);
+        reloadedStorage.saveEventStorage(reloaded);
+        reloaded.addEvent(HELPOUT);
+        reloadedStorage.saveEventStorage(reloaded);
+        assertEquals(3, readJournal(filePath).size());
+
+        // the journal is replayed over the snapshot when read
+        assertEquals(original, new EventStorage(new JsonEventStorage(filePath).readEventStorage().get()));
+        assertEquals(reloaded, new EventStorage(new JournalEventStorage(filePath).readEventStorage().get()));
+    }
+
+    @Test
+    public void saveEventStorage_compactionThresholdReached_rewritesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempEventStorage.json");
+        EventStorage original = getTypicalEventStorage();
+        JournalEventStorage journalEventStorage = new JournalEventStorage(filePath, 1);
+
+        journalEventStorage.saveEventStorage(original);
+        original.addEvent(CLEANUP);
+        journalEventStorage.saveEventStorage(original);
+        assertTrue(Files.exists(JsonJournal.getJournalPath(filePath)));
+
+        original.addEvent(HELPOUT);
+        journalEventStorage.saveEventStorage(original);
+        assertFalse(Files.exists(JsonJournal.getJournalPath(filePath)));
+        assertEquals(original, new EventStorage(new JsonEventStorage(filePath).readEventStorage().get()));
+
+        // changes made after the compaction are appended to a new journal
+        original.removeEvent(CLEANUP);
+        journalEventStorage.saveEventStorage(original);
+        assertEquals(2, readJournal(filePath).size());
+        assertEquals(original, new EventStorage(new JournalEventStorage(filePath).readEventStorage().get()));
+    }
+
+    @Test
+    public void readEventStorage_journalOfOtherSnapshot_ignoresJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempEventStorage.json");
+        EventStorage original = getTypicalEventStorage();
+        JournalEventStorage journalEventStorage = new JournalEventStorage(filePath);
+        journalEventStorage.saveEventStorage(original);
+        EventStorage changed = new EventStorage(original);
+        changed.addEvent(CLEANUP);
+        journalEventStorage.readEventStorage();
+        journalEventStorage.saveEventStorage(changed);
+
+        // as if the application stopped after rewriting the snapshot but before deleting the journal
+        new JsonEventStorage(filePath).saveEventStorage(changed);
+        assertTrue(Files.exists(JsonJournal.getJournalPath(filePath)));
+        assertEquals(changed, new EventStorage(new JournalEventStorage(filePath).readEventStorage().get()));
+    }
+
+    /**
+     * Returns the lines of the journal of the snapshot at {@code filePath}.
+     */
+    private static List<String> readJournal(Path filePath) throws Exception {
+        return Files.readAllLines(JsonJournal.getJournalPath(filePath), StandardCharsets.UTF_8);
+    }
+}
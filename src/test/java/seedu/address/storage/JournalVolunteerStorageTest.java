@@ -0,0 +1,157 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalVolunteers.ALICE;
+import static seedu.address.testutil.TypicalVolunteers.BENSON;
+import static seedu.address.testutil.TypicalVolunteers.HOON;
+import static seedu.address.testutil.TypicalVolunteers.IDA;
+import static seedu.address.testutil.TypicalVolunteers.getTypicalVolunteerStorage;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyVolunteerStorage;
+import seedu.address.model.VolunteerStorage;
+import seedu.address.testutil.VolunteerBuilder;
+
+public class JournalVolunteerStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readVolunteerStorage_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalVolunteerStorage(null).readVolunteerStorage(null));
+    }
+
+    @Test
+    public void readVolunteerStorage_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JournalVolunteerStorage(filePath).readVolunteerStorage().isPresent());
+    }
+
+    @Test
+    public void saveVolunteerStorage_nullParameters_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("SomeFile.json");
+        JournalVolunteerStorage storage = new JournalVolunteerStorage(filePath);
+        assertThrows(NullPointerException.class, () -> storage.saveVolunteerStorage(null, filePath));
+        assertThrows(NullPointerException.class, () -> storage.saveVolunteerStorage(new VolunteerStorage(), null));
+    }
+
+    @Test
+    public void readAndSaveVolunteerStorage_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempVolunteerStorage.json");
+        VolunteerStorage original = getTypicalVolunteerStorage();
+        JournalVolunteerStorage journalVolunteerStorage = new JournalVolunteerStorage(filePath);
+
+        // first save writes a snapshot readable by JsonVolunteerStorage
+        journalVolunteerStorage.saveVolunteerStorage(original);
+        assertFalse(Files.exists(JsonJournal.getJournalPath(filePath)));
+        assertEquals(original, new VolunteerStorage(new JsonVolunteerStorage(filePath).readVolunteerStorage().get()));
+
+        // later saves only append the changes to the journal, one entry for each change
+        original.addVolunteer(HOON);
+        original.removeVolunteer(ALICE);
+        journalVolunteerStorage.saveVolunteerStorage(original);
+        original.setVolunteer(BENSON, new VolunteerBuilder(BENSON).withPhone("99999999").build());
+        journalVolunteerStorage.saveVolunteerStorage(original);
+        assertEquals(4, readJournal(filePath).size());
+
+        // saving unchanged data does not append anything
+        journalVolunteerStorage.saveVolunteerStorage(original);
+        assertEquals(4, readJournal(filePath).size());
+
+        ReadOnlyVolunteerStorage readBack = new JournalVolunteerStorage(filePath).readVolunteerStorage().get();
+        assertEquals(original, new VolunteerStorage(readBack));
+    }
+
+    @Test
+    public void saveVolunteerStorage_compactionThresholdReached_rewritesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempVolunteerStorage.json");
+        VolunteerStorage original = getTypicalVolunteerStorage();
+        JournalVolunteerStorage journalVolunteerStorage = new JournalVolunteerStorage(filePath, 1);
+
+        journalVolunteerStorage.saveVolunteerStorage(original);
+        original.addVolunteer(HOON);
+        journalVolunteerStorage.saveVolunteerStorage(original);
+        assertTrue(Files.exists(JsonJournal.getJournalPath(filePath)));
+
+        original.addVolunteer(IDA);
+        journalVolunteerStorage.saveVolunteerStorage(original);
+        assertFalse(Files.exists(JsonJournal.getJournalPath(filePath)));
+        assertEquals(original, new VolunteerStorage(new JsonVolunteerStorage(filePath).readVolunteerStorage().get()));
+    }
+
+    @Test
+    public void readVolunteerStorage_incompleteLastEntry_ignoresEntryAndCompactsOnSave() throws Exception {
+        Path filePath = testFolder.resolve("TempVolunteerStorage.json");
+        VolunteerStorage original = getTypicalVolunteerStorage();
+        new JournalVolunteerStorage(filePath).saveVolunteerStorage(original);
+        JournalVolunteerStorage journalVolunteerStorage = new JournalVolunteerStorage(filePath);
+        journalVolunteerStorage.readVolunteerStorage();
+        original.addVolunteer(HOON);
+        journalVolunteerStorage.saveVolunteerStorage(original);
+        Files.write(JsonJournal.getJournalPath(filePath), "\n{\"from\":".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournalVolunteerStorage reloadedStorage = new JournalVolunteerStorage(filePath);
+        assertEquals(original, new VolunteerStorage(reloadedStorage.readVolunteerStorage().get()));
+
+        original.addVolunteer(IDA);
+        reloadedStorage.saveVolunteerStorage(original);
+        assertFalse(Files.exists(JsonJournal.getJournalPath(filePath)));
+        ReadOnlyVolunteerStorage compactedData = new JournalVolunteerStorage(filePath).readVolunteerStorage().get();
+        assertEquals(original, new VolunteerStorage(compactedData));
+    }
+
+    @Test
+    public void readVolunteerStorage_journalOfOtherSnapshot_ignoresJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempVolunteerStorage.json");
+        VolunteerStorage original = getTypicalVolunteerStorage();
+        JournalVolunteerStorage journalVolunteerStorage = new JournalVolunteerStorage(filePath);
+        journalVolunteerStorage.saveVolunteerStorage(original);
+        journalVolunteerStorage.readVolunteerStorage();
+        VolunteerStorage changed = new VolunteerStorage(original);
+        changed.addVolunteer(HOON);
+        journalVolunteerStorage.saveVolunteerStorage(changed);
+
+        // as if the application stopped after rewriting the snapshot but before deleting the journal
+        new JsonVolunteerStorage(filePath).saveVolunteerStorage(changed);
+        assertEquals(changed, new VolunteerStorage(new JournalVolunteerStorage(filePath).readVolunteerStorage().get()));
+    }
+
+    @Test
+    public void readVolunteerStorage_invalidEntry_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempVolunteerStorage.json");
+        JournalVolunteerStorage journalVolunteerStorage = new JournalVolunteerStorage(filePath);
+        journalVolunteerStorage.saveVolunteerStorage(getTypicalVolunteerStorage());
+        journalVolunteerStorage.readVolunteerStorage();
+        VolunteerStorage changed = getTypicalVolunteerStorage();
+        changed.addVolunteer(HOON);
+        journalVolunteerStorage.saveVolunteerStorage(changed);
+        changed.addVolunteer(IDA);
+        journalVolunteerStorage.saveVolunteerStorage(changed);
+
+        List<String> lines = Files.readAllLines(JsonJournal.getJournalPath(filePath));
+        lines.set(1, "{\"from\":100,\"removedCount\":0,\"added\":[]}");
+        Files.write(JsonJournal.getJournalPath(filePath), lines);
+        assertThrows(DataLoadingException.class, () -> new JournalVolunteerStorage(filePath).readVolunteerStorage());
+    }
+
+    /**
+     * Returns the lines of the journal of the snapshot at {@code filePath}.
+     */
+    private static List<String> readJournal(Path filePath) throws Exception {
+        return Files.readAllLines(JsonJournal.getJournalPath(filePath), StandardCharsets.UTF_8);
+    }
+}
@@ -11,13 +11,18 @@ import static seedu.address.testutil.TypicalVolunteers.getTypicalVolunteerStorag
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
-//import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyVolunteerStorage;
 import seedu.address.model.VolunteerStorage;
+import seedu.address.storage.volunteer.JsonAdaptedVolunteer;
+import seedu.address.storage.volunteer.JsonSerializableVolunteerStorage;
 
 public class JsonVolunteerStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data",
@@ -93,6 +98,36 @@ public class JsonVolunteerStorageTest {
 
     }
 
+    @Test
+    public void saveVolunteerStorage_streamedFile_sameAsSerializedStorage() throws Exception {
+        Path filePath = testFolder.resolve("TempVolunteerStorage.json");
+        VolunteerStorage original = getTypicalVolunteerStorage();
+        new JsonVolunteerStorage(filePath).saveVolunteerStorage(original);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableVolunteerStorage(original)),
+                FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void readVolunteerStorage_unknownFields_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempVolunteerStorage.json");
+        VolunteerStorage original = getTypicalVolunteerStorage();
+        String json = JsonUtil.toJsonString(new JsonSerializableVolunteerStorage(original));
+        FileUtil.writeToFile(filePath, "{ \"unknown\" : [ { \"nested\" : 1 } ], " + json.substring(1));
+
+        assertEquals(original, new VolunteerStorage(new JsonVolunteerStorage(filePath).readVolunteerStorage().get()));
+    }
+
+    @Test
+    public void readVolunteerStorage_duplicateVolunteers_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempVolunteerStorage.json");
+        FileUtil.writeToFile(filePath, JsonUtil.toJsonString(new JsonSerializableVolunteerStorage(
+                List.of(new JsonAdaptedVolunteer(ALICE), new JsonAdaptedVolunteer(HOON),
+                        new JsonAdaptedVolunteer(ALICE)))));
+
+        assertThrows(DataLoadingException.class, () -> new JsonVolunteerStorage(filePath).readVolunteerStorage());
+    }
+
     @Test
     public void saveVolunteerStorage_nullVolunteerStorage_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveVolunteerStorage(null, "SomeFile.json"));
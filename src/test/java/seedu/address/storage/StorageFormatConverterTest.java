@@ -0,0 +1,60 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventStorage;
+import static seedu.address.testutil.TypicalVolunteers.HOON;
+import static seedu.address.testutil.TypicalVolunteers.getTypicalVolunteerStorage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.model.EventStorage;
+import seedu.address.model.VolunteerStorage;
+
+public class StorageFormatConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convertEventStorageFile_jsonToBinaryAndBack_lossless() throws Exception {
+        Path filePath = testFolder.resolve("eventStorage.json");
+        EventStorage original = getTypicalEventStorage();
+        new JsonEventStorage(filePath).saveEventStorage(original);
+
+        StorageFormatConverter.convertEventStorageFile(filePath, StorageFormat.BINARY);
+        assertEquals(StorageFormat.BINARY, StorageFormatConverter.getFormat(filePath));
+        assertEquals(original, new EventStorage(new BinaryEventStorage(filePath).readEventStorage().get()));
+
+        StorageFormatConverter.convertEventStorageFile(filePath, StorageFormat.JSON);
+        assertEquals(StorageFormat.JSON, StorageFormatConverter.getFormat(filePath));
+        assertEquals(original, new EventStorage(new JsonEventStorage(filePath).readEventStorage().get()));
+    }
+
+    @Test
+    public void convertVolunteerStorageFile_jsonWithJournal_journalIncludedAndDeleted() throws Exception {
+        Path filePath = testFolder.resolve("volunteerStorage.json");
+        VolunteerStorage original = getTypicalVolunteerStorage();
+        JournalVolunteerStorage journalVolunteerStorage = new JournalVolunteerStorage(filePath);
+        journalVolunteerStorage.saveVolunteerStorage(original);
+        original.addVolunteer(HOON);
+        journalVolunteerStorage.saveVolunteerStorage(original);
+
+        StorageFormatConverter.convertVolunteerStorageFile(filePath, StorageFormat.BINARY);
+        assertFalse(Files.exists(JsonJournal.getJournalPath(filePath)));
+        assertEquals(original,
+                new VolunteerStorage(new BinaryVolunteerStorage(filePath).readVolunteerStorage().get()));
+    }
+
+    @Test
+    public void convertEventStorageFile_missingFile_noFileCreated() throws Exception {
+        Path filePath = testFolder.resolve("missing.json");
+        StorageFormatConverter.convertEventStorageFile(filePath, StorageFormat.BINARY);
+        assertFalse(Files.exists(filePath));
+    }
+}
@@ -2,15 +2,23 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalVolunteers.HOON;
+import static seedu.address.testutil.TypicalVolunteers.IDA;
 import static seedu.address.testutil.TypicalVolunteers.getTypicalVolunteerStorage;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.EventStorage;
+import seedu.address.model.ReadOnlyEventStorage;
 import seedu.address.model.ReadOnlyVolunteerStorage;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.VolunteerStorage;
@@ -61,6 +69,67 @@ public class StorageManagerTest {
         assertEquals(original, new VolunteerStorage(retrieved));
     }
 
+    @Test
+    public void saveVolunteerStorage_inBackground_savesLatestDataOnFlush() throws Exception {
+        CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        CountDownLatch firstSaveReleased = new CountDownLatch(1);
+        AtomicInteger saveCount = new AtomicInteger();
+        JsonVolunteerStorage volunteerStorage = new JsonVolunteerStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveVolunteerStorage(ReadOnlyVolunteerStorage volunteerStorage, Path filePath)
+                    throws IOException {
+                if (saveCount.incrementAndGet() == 1) {
+                    firstSaveStarted.countDown();
+                    awaitUninterruptibly(firstSaveReleased);
+                }
+                super.saveVolunteerStorage(volunteerStorage, filePath);
+            }
+        };
+        StorageManager backgroundStorageManager = new StorageManager(new JsonEventStorage(getTempFilePath("bc")),
+                volunteerStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+
+        VolunteerStorage data = getTypicalVolunteerStorage();
+        backgroundStorageManager.saveVolunteerStorage(data);
+        firstSaveStarted.await();
+
+        // saves made while the writer is busy are coalesced into the latest one
+        data.addVolunteer(HOON);
+        backgroundStorageManager.saveVolunteerStorage(data);
+        data.addVolunteer(IDA);
+        backgroundStorageManager.saveVolunteerStorage(data);
+        firstSaveReleased.countDown();
+        backgroundStorageManager.flush();
+
+        assertEquals(2, saveCount.get());
+        assertEquals(data, new VolunteerStorage(backgroundStorageManager.readVolunteerStorage().get()));
+    }
+
+    @Test
+    public void flush_backgroundSaveFails_throwsIoException() throws Exception {
+        IOException error = new IOException("dummy IO exception");
+        JsonEventStorage eventStorage = new JsonEventStorage(getTempFilePath("bc")) {
+            @Override
+            public void saveEventStorage(ReadOnlyEventStorage eventStorage, Path filePath) throws IOException {
+                throw error;
+            }
+        };
+        StorageManager backgroundStorageManager = new StorageManager(eventStorage,
+                new JsonVolunteerStorage(getTempFilePath("ab")), new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                true);
+
+        backgroundStorageManager.saveEventStorage(new EventStorage());
+        assertThrows(IOException.class, error.getMessage(), backgroundStorageManager::flush);
+        backgroundStorageManager.checkBackgroundSaveError();
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
     @Test
     public void getVolunteerStorageFilePath() {
         assertNotNull(storageManager.getVolunteerStorageFilePath());